@@ -0,0 +1,118 @@
+package fr.haizen.wordle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Deterministic words and (guess, target) pairs for the benchmarks
+ */
+public final class BenchmarkWords {
+
+    /**
+     * The kind of (guess, target) pairs
+     */
+    public enum Distribution {
+
+        /**
+         * Uniform random letters
+         */
+        RANDOM,
+
+        /**
+         * The guess is the target (all letters green)
+         */
+        ALL_GREEN,
+
+        /**
+         * The guess and the target have no letter in common (all letters gray)
+         */
+        ALL_GRAY,
+
+        /**
+         * Letters drawn from a small alphabet (repeated letters, many yellows)
+         */
+        REPEATED
+    }
+
+    private BenchmarkWords() {
+    }
+
+    /**
+     * Generate random lower case words
+     *
+     * @param count the number of words
+     * @param seed  the seed (same words for the same seed)
+     * @return the words
+     */
+    public static List<String> random(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) words.add(word(random, 'a', 26, 5));
+        return words;
+    }
+
+    /**
+     * Generate 5-letter (guess, target) pairs
+     *
+     * @param distribution the kind of pairs
+     * @param count        the number of pairs
+     * @param seed         the seed (same pairs for the same seed)
+     * @return the guesses [0] and the targets [1]
+     */
+    public static String[][] pairs(Distribution distribution, int count, long seed) {
+        return pairs(distribution, count, seed, 5);
+    }
+
+    /**
+     * Generate (guess, target) pairs
+     *
+     * @param distribution the kind of pairs
+     * @param count        the number of pairs
+     * @param seed         the seed (same pairs for the same seed)
+     * @param length       the length of the words
+     * @return the guesses [0] and the targets [1]
+     */
+    public static String[][] pairs(Distribution distribution, int count, long seed, int length) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[][] pairs = new String[2][count];
+
+        for (int i = 0; i < count; i++) {
+            switch (distribution) {
+                case RANDOM -> {
+                    pairs[0][i] = word(random, 'a', 26, length);
+                    pairs[1][i] = word(random, 'a', 26, length);
+                }
+                case ALL_GREEN -> {
+                    pairs[0][i] = word(random, 'a', 26, length);
+                    pairs[1][i] = pairs[0][i];
+                }
+                case ALL_GRAY -> {
+                    pairs[0][i] = word(random, 'a', 13, length);
+                    pairs[1][i] = word(random, 'n', 13, length);
+                }
+                case REPEATED -> {
+                    pairs[0][i] = word(random, 'a', 3, length);
+                    pairs[1][i] = word(random, 'a', 3, length);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Generate a random word
+     *
+     * @param random  the random generator
+     * @param first   the first letter of the alphabet
+     * @param letters the size of the alphabet
+     * @param length  the length of the word
+     * @return the word
+     */
+    private static String word(SplittableRandom random, char first, int letters, int length) {
+        char[] word = new char[length];
+        for (int i = 0; i < word.length; i++) word[i] = (char) (first + random.nextInt(letters));
+        return new String(word);
+    }
+}
@@ -0,0 +1,140 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.BenchmarkWords.Distribution;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Benchmark of the core game paths (checkGuess, generateFeedback, score, isValidWord)
+ * on several kinds of words, run with ./gradlew jmh (the GC profiler reports the allocation rate)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLogicBenchmark {
+
+    /**
+     * The number of (guess, target) pairs, played in turn
+     */
+    private static final int PAIRS = 1024;
+
+    /**
+     * The kind of words
+     */
+    @Param({"RANDOM", "ALL_GREEN", "ALL_GRAY", "REPEATED"})
+    private Distribution distribution;
+
+    /**
+     * If the words must be in a dictionary
+     */
+    @Param({"false", "true"})
+    private boolean dictionary;
+
+    private String[] guesses;
+    private String[] targets;
+    private long[] packedGuesses;
+    private long[] packedTargets;
+    private GameLogic[] games;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[][] pairs = BenchmarkWords.pairs(distribution, PAIRS, 42);
+        guesses = pairs[0];
+        targets = pairs[1];
+
+        if (dictionary) {
+            List<String> words = new ArrayList<>(Arrays.asList(guesses));
+            words.addAll(Arrays.asList(targets));
+            WordUtils.setDictionary(WordList.of(words));
+        } else {
+            WordUtils.setDictionary();
+        }
+
+        packedGuesses = new long[PAIRS];
+        packedTargets = new long[PAIRS];
+        games = new GameLogic[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            packedGuesses[i] = WordCodec.pack(guesses[i]);
+            packedTargets[i] = WordCodec.pack(targets[i]);
+            games[i] = new GameLogic(targets[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        WordUtils.setDictionary();
+    }
+
+    @Benchmark
+    public GuessResult checkGuess() {
+        int i = next();
+
+        /*
+         * A new game after the last attempt (the history of a game stays small, like in a real game)
+         */
+        GameLogic game = games[i];
+        if (game.getHistory().size() == WordUtils.MAX_ATTEMPTS) {
+            game = new GameLogic(targets[i]);
+            games[i] = game;
+        }
+        return game.checkGuess(guesses[i]);
+    }
+
+    @Benchmark
+    public LetterFeedback[] generateFeedback() {
+        int i = next();
+        return GameLogic.generateFeedback(guesses[i], targets[i]);
+    }
+
+    @Benchmark
+    public int scoreString() {
+        int i = next();
+        return GameLogic.score(guesses[i], targets[i]);
+    }
+
+    @Benchmark
+    public int scorePacked() {
+        int i = next();
+        return GameLogic.score(packedGuesses[i], packedTargets[i], WordUtils.WORD_LENGTH);
+    }
+
+    @Benchmark
+    public boolean isValidWord() {
+        return WordUtils.isValidWord(guesses[next()]);
+    }
+
+    /**
+     * Get the next pair to play (round robin)
+     *
+     * @return the index of the pair
+     */
+    private int next() {
+        index = (index + 1) & (PAIRS - 1);
+        return index;
+    }
+}
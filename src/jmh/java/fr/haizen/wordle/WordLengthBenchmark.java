@@ -0,0 +1,102 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.BenchmarkWords.Distribution;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Benchmark of the game paths for each word length (4 to 8 letters, per-game settings)
+ * The 5-letter case is compared with GameLogicBenchmark (default settings)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordLengthBenchmark {
+
+    /**
+     * The number of (guess, target) pairs, played in turn
+     */
+    private static final int PAIRS = 1024;
+
+    /**
+     * The length of the words
+     */
+    @Param({"4", "5", "6", "8"})
+    private int wordLength;
+
+    private GameSettings settings;
+    private String[] guesses;
+    private String[] targets;
+    private long[] packedGuesses;
+    private long[] packedTargets;
+    private GameLogic[] games;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[][] pairs = BenchmarkWords.pairs(Distribution.RANDOM, PAIRS, 42, wordLength);
+        guesses = pairs[0];
+        targets = pairs[1];
+        settings = new GameSettings(wordLength, WordUtils.MAX_ATTEMPTS);
+        WordUtils.setDictionary();
+
+        packedGuesses = new long[PAIRS];
+        packedTargets = new long[PAIRS];
+        games = new GameLogic[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            packedGuesses[i] = WordCodec.pack(guesses[i]);
+            packedTargets[i] = WordCodec.pack(targets[i]);
+            games[i] = new GameLogic(targets[i], settings);
+        }
+    }
+
+    @Benchmark
+    public GuessResult checkGuess() {
+        int i = next();
+
+        /*
+         * A new game after the last attempt (the history of a game stays small, like in a real game)
+         */
+        GameLogic game = games[i];
+        if (game.getHistory().size() == settings.getMaxAttempts()) {
+            game = new GameLogic(targets[i], settings);
+            games[i] = game;
+        }
+        return game.checkGuess(guesses[i]);
+    }
+
+    @Benchmark
+    public int scorePacked() {
+        int i = next();
+        return GameLogic.score(packedGuesses[i], packedTargets[i], wordLength);
+    }
+
+    /**
+     * Get the next pair to play (round robin)
+     *
+     * @return the index of the pair
+     */
+    private int next() {
+        index = (index + 1) & (PAIRS - 1);
+        return index;
+    }
+}
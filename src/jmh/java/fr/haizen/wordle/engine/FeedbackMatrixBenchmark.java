@@ -0,0 +1,89 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.BenchmarkWords;
+import fr.haizen.wordle.GameLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Benchmark of the feedback matrix against the per-call feedback (GameLogic.generateFeedback)
+ * Each operation scores one full row (one guess against every answer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackMatrixBenchmark {
+
+    /**
+     * The number of words (guesses and answers)
+     */
+    @Param({"2000"})
+    private int wordCount;
+
+    /**
+     * The words (lower case)
+     */
+    private List<String> words;
+
+    /**
+     * The precomputed matrix
+     */
+    private FeedbackMatrix matrix;
+
+    /**
+     * The guess scored by the current invocation
+     */
+    private int guessIndex;
+
+    @Setup
+    public void setUp() {
+        words = BenchmarkWords.random(wordCount, 42);
+        matrix = FeedbackMatrix.compute(words, words);
+    }
+
+    @Benchmark
+    public int perCall() {
+        String guess = words.get(nextGuess());
+        int sum = 0;
+        for (String answer : words) {
+            sum += FeedbackPattern.encode(GameLogic.generateFeedback(guess, answer));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int matrixLookup() {
+        int guess = nextGuess();
+        int sum = 0;
+        for (int answer = 0; answer < wordCount; answer++) {
+            sum += matrix.get(guess, answer);
+        }
+        return sum;
+    }
+
+    /**
+     * Get the next guess to score (round robin over the words)
+     *
+     * @return the index of the guess
+     */
+    private int nextGuess() {
+        guessIndex = guessIndex + 1 == wordCount ? 0 : guessIndex + 1;
+        return guessIndex;
+    }
+}
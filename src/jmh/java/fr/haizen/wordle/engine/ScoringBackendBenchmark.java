@@ -0,0 +1,80 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.BenchmarkWords;
+import fr.haizen.wordle.utils.WordCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Benchmark of the scoring backends (scalar, vector), each operation scores one answer against every guess,
+ * or every (guess, answer) pair
+ * The forks add the Vector API module, the vector backend falls back to the scalar one without it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScoringBackendBenchmark {
+
+    /**
+     * The backend
+     */
+    @Param({"scalar", "vector"})
+    private String backendName;
+
+    /**
+     * The number of guesses
+     */
+    @Param({"12972"})
+    private int guessCount;
+
+    private ScoringBackend backend;
+    private int[] guesses;
+    private int[] answers;
+    private byte[] output;
+    private int answerIndex;
+
+    @Setup
+    public void setUp() {
+        backend = backendName.equals("scalar") ? ScoringBackend.scalar() : ScoringBackend.best();
+        if (!backend.getName().equals(backendName)) {
+            throw new IllegalStateException("The " + backendName + " backend is not available");
+        }
+
+        List<String> words = BenchmarkWords.random(guessCount, 42);
+        guesses = new int[guessCount];
+        for (int i = 0; i < guessCount; i++) guesses[i] = (int) WordCodec.pack(words.get(i));
+        List<String> answerWords = BenchmarkWords.random(guessCount, 43);
+        answers = new int[guessCount];
+        for (int i = 0; i < guessCount; i++) answers[i] = (int) WordCodec.pack(answerWords.get(i));
+        output = new byte[guessCount];
+    }
+
+    @Benchmark
+    public byte[] scoreGuesses() {
+        answerIndex = answerIndex + 1 == guessCount ? 0 : answerIndex + 1;
+        backend.scoreGuesses(guesses[answerIndex], guesses, output, 0, guessCount);
+        return output;
+    }
+
+    @Benchmark
+    public byte[] scorePairs() {
+        backend.score(guesses, answers, output, 0, guessCount);
+        return output;
+    }
+}
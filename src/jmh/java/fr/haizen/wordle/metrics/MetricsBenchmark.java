@@ -0,0 +1,97 @@
+package fr.haizen.wordle.metrics;
+
+import fr.haizen.wordle.BenchmarkWords;
+import fr.haizen.wordle.BenchmarkWords.Distribution;
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Benchmark of the instrumented paths with the no-op registry (the default) and with a recording registry
+ * The no-op scores are compared with GameLogicBenchmark (same paths, same words)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    /**
+     * The number of (guess, target) pairs, played in turn
+     */
+    private static final int PAIRS = 1024;
+
+    /**
+     * If the metrics are recorded (false: no-op registry)
+     */
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    private String[] guesses;
+    private String[] targets;
+    private GameLogic[] games;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        MetricsRegistry.install(enabled ? new MetricsRegistry() : MetricsRegistry.NOOP);
+
+        String[][] pairs = BenchmarkWords.pairs(Distribution.RANDOM, PAIRS, 42);
+        guesses = pairs[0];
+        targets = pairs[1];
+        games = new GameLogic[PAIRS];
+        for (int i = 0; i < PAIRS; i++) games[i] = new GameLogic(targets[i]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MetricsRegistry.install(MetricsRegistry.NOOP);
+    }
+
+    @Benchmark
+    public GuessResult checkGuess() {
+        int i = next();
+
+        /*
+         * A new game after the last attempt (the history of a game stays small, like in a real game)
+         */
+        GameLogic game = games[i];
+        if (game.getHistory().size() == WordUtils.MAX_ATTEMPTS) {
+            game = new GameLogic(targets[i]);
+            games[i] = game;
+        }
+        return game.checkGuess(guesses[i]);
+    }
+
+    @Benchmark
+    public boolean isValidWord() {
+        return WordUtils.isValidWord(guesses[next()]);
+    }
+
+    /**
+     * Get the next pair to play (round robin)
+     *
+     * @return the index of the pair
+     */
+    private int next() {
+        index = (index + 1) & (PAIRS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,145 @@
+package fr.haizen.wordle.server;
+
+import fr.haizen.wordle.BenchmarkWords;
+import fr.haizen.wordle.dictionary.WordList;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Local load generator for the HTTP API: each client plays full games (create, guesses, state) in a loop
+ * and the latency of every request is recorded, then p50 / p99 and the requests per second are printed
+ * Usage: LoadGenerator [clients] [seconds] [server url], without url an embedded server is started
+ */
+public class LoadGenerator {
+
+    /**
+     * The id of a created game in the response
+     */
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f]+)\"");
+
+    /**
+     * Main method
+     *
+     * @param args the arguments (clients, seconds, server url)
+     * @throws Exception if the load can't be generated
+     */
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        /*
+         * Start an embedded server on random words, unless a server url is given
+         */
+        List<String> words = BenchmarkWords.random(2000, 42);
+        WordleServer server = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            SessionManager sessionManager = new SessionManager(WordList.of(words), Duration.ofMinutes(1));
+            server = new WordleServer(sessionManager, new InetSocketAddress("127.0.0.1", 0));
+            server.start();
+            baseUrl = "http://127.0.0.1:" + server.getPort();
+            System.out.println("Embedded server on " + baseUrl + (server.isVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        }
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        /*
+         * Run the clients, each one records its latencies
+         */
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            long seed = i;
+            futures.add(executor.submit(() -> play(client, baseUrl, words, new SplittableRandom(seed), deadline)));
+        }
+
+        long[] latencies = new long[0];
+        for (Future<long[]> future : futures) {
+            long[] clientLatencies = future.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + clientLatencies.length);
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+        }
+        executor.shutdown();
+        if (server != null) server.close();
+
+        /*
+         * Print the report
+         */
+        Arrays.sort(latencies);
+        System.out.printf("Requests: %d in %d s (%d clients)%n", latencies.length, seconds, clients);
+        System.out.printf("Throughput: %.0f requests/s%n", latencies.length / (double) seconds);
+        System.out.printf("Latency p50: %.3f ms, p99: %.3f ms, max: %.3f ms%n",
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6,
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+        System.exit(0);
+    }
+
+    /**
+     * Play games until the deadline
+     *
+     * @param client   the HTTP client
+     * @param baseUrl  the url of the server
+     * @param words    the words to guess with
+     * @param random   the random generator of the client
+     * @param deadline the end of the run (System.nanoTime)
+     * @return the latencies of the requests (nanoseconds)
+     * @throws Exception if a request fails
+     */
+    private static long[] play(HttpClient client, String baseUrl, List<String> words, SplittableRandom random, long deadline) throws Exception {
+        long[] latencies = new long[1024];
+        int count = 0;
+
+        while (System.nanoTime() < deadline) {
+            if (count + 8 > latencies.length) latencies = Arrays.copyOf(latencies, latencies.length * 2);
+
+            long start = System.nanoTime();
+            String created = send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/games")).POST(HttpRequest.BodyPublishers.noBody()));
+            latencies[count++] = System.nanoTime() - start;
+
+            Matcher matcher = ID.matcher(created);
+            if (!matcher.find()) throw new IllegalStateException("Unexpected response: " + created);
+            String gameUrl = baseUrl + "/games/" + matcher.group(1);
+
+            for (int attempt = 0; attempt < 6; attempt++) {
+                String word = words.get(random.nextInt(words.size()));
+                start = System.nanoTime();
+                String result = send(client, HttpRequest.newBuilder(URI.create(gameUrl + "/guesses")).POST(HttpRequest.BodyPublishers.ofString(word)));
+                latencies[count++] = System.nanoTime() - start;
+                if (result.contains("\"correct\":true")) break;
+            }
+
+            start = System.nanoTime();
+            send(client, HttpRequest.newBuilder(URI.create(gameUrl)).GET());
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static String send(HttpClient client, HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+}
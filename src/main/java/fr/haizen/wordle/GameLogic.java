@@ -1,12 +1,24 @@
 package fr.haizen.wordle;
 
-import com.diogonunes.jcolor.Ansi;
-import com.diogonunes.jcolor.Attribute;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.engine.HardModeConstraints;
+import fr.haizen.wordle.event.GameListener;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.objects.GameSettings;
 import fr.haizen.wordle.objects.GuessResult;
 import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.objects.Word;
+import fr.haizen.wordle.utils.WordCodec;
 import fr.haizen.wordle.utils.WordUtils;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Created at 24/03/2025 - HaiZen
  * This class defines all the logic of the game
@@ -15,9 +27,31 @@ import lombok.Getter;
 public class GameLogic {
 
     /**
-     * The word to guess
+     * No listener (shared empty array)
+     */
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+
+    /**
+     * The word to guess (packed letters, see Word), null if it has letters that can't be packed (accents...)
      */
-    private final String targetWord;
+    private final Word target;
+
+    /**
+     * The word to guess when it can't be packed (lower case, scored letter by letter), null otherwise
+     */
+    @Getter(AccessLevel.NONE)
+    private final String otherTarget;
+
+    /**
+     * The settings of the game (word length, attempts)
+     */
+    private final GameSettings settings;
+
+    /**
+     * The hints revealed so far (hard mode only, null otherwise)
+     */
+    @Getter(AccessLevel.NONE)
+    private final HardModeConstraints constraints;
 
     /**
      * The remainign attempts (default : 6)
@@ -25,32 +59,119 @@ public class GameLogic {
     private int remainingAttempts;
 
     /**
-     * Constructor
+     * The results of the valid guesses, in order (append only)
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<GuessResult> results;
+
+    /**
+     * The packed guesses of the results, in the same order (INVALID for a guess that can't be packed)
+     */
+    @Getter(AccessLevel.NONE)
+    private long[] packedGuesses;
+
+    /**
+     * Read-only view of the results (see getHistory)
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<GuessResult> history;
+
+    /**
+     * The listeners of the game events
+     */
+    @Getter(AccessLevel.NONE)
+    private GameListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Constructor (default settings: 5 letters, 6 attempts)
      *
      * @param targetWord the word to guess
      */
     public GameLogic(String targetWord) {
+        this(targetWord, GameSettings.DEFAULT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param targetWord the word to guess
+     * @param settings   the settings of the game (word length, attempts)
+     */
+    public GameLogic(String targetWord, GameSettings settings) {
+        /*
+         * Check if the dictionary has words of this length (else no guess could be valid)
+         */
+        if (!WordUtils.isPlayableLength(settings.getWordLength())) {
+            throw new IllegalArgumentException("No word of " + settings.getWordLength() + " letters in the dictionary");
+        }
+
         /*
          * Check if the word is valid (full letter...)
          */
-        if (!WordUtils.isValidWord(targetWord)) {
+        if (!WordUtils.isValidWord(targetWord, settings.getWordLength())) {
             /*
              * Throw an exception if the word is not valid
              */
             throw new IllegalArgumentException("Invalid target word");
         }
 
-        this.targetWord = targetWord.toLowerCase();
-        this.remainingAttempts = WordUtils.MAX_ATTEMPTS;
+        /*
+         * The word is packed once, the words with other letters (accents...) are kept as text (slower generic path)
+         */
+        long packedTarget = WordCodec.pack(targetWord);
+        this.target = packedTarget == WordCodec.INVALID ? null : Word.ofPacked(packedTarget, targetWord.length());
+        this.otherTarget = target == null ? targetWord.toLowerCase() : null;
+        if (settings.isHardMode() && target == null) {
+            throw new IllegalArgumentException("The hard mode only supports ASCII letters");
+        }
+        this.settings = settings;
+        this.constraints = settings.isHardMode() ? new HardModeConstraints() : null;
+        this.remainingAttempts = settings.getMaxAttempts();
+        this.results = new ArrayList<>(settings.getMaxAttempts());
+        this.packedGuesses = new long[settings.getMaxAttempts()];
+        this.history = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Add a listener of the game events (guess scored, game won, game lost)
+     *
+     * @param listener the listener
+     */
+    public void addListener(GameListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Get the results of the previous guesses, in order
+     * The results are stored once (with their packed feedback), the view is read-only
+     *
+     * @return the history
+     */
+    public List<GuessResult> getHistory() {
+        return history;
+    }
+
+    /**
+     * Get a guess of the history as packed letters (see WordCodec), without packing it again
+     *
+     * @param index the index of the guess in the history
+     * @return the packed guess (INVALID if it has letters that can't be packed)
+     */
+    public long getPackedGuess(int index) {
+        if (index < 0 || index >= results.size()) {
+            throw new IndexOutOfBoundsException("Guess index " + index + ", size " + results.size());
+        }
+        return packedGuesses[index];
     }
 
     /**
      * Get the target word
      *
-     * @return the target word
+     * @return the target word (upper case)
      */
     public String getTargetWord() {
-        return targetWord.toUpperCase();
+        return target != null ? target.toUpperCase() : otherTarget.toUpperCase();
     }
 
     /**
@@ -61,51 +182,269 @@ public class GameLogic {
      */
     public GuessResult checkGuess(String guess) {
         /*
-         * Check if the word is valid (full letter...)
+         * The guess is packed once (case insensitive), the game then only works on the packed letters
          */
-        if (!WordUtils.isValidWord(guess)) {
+        int length = settings.getWordLength();
+        return checkGuess(guess == null || guess.length() != length ? WordCodec.INVALID : WordCodec.pack(guess), guess);
+    }
+
+    /**
+     * Check the guess and return the result
+     *
+     * @param guess the guess
+     * @return the result
+     */
+    public GuessResult checkGuess(Word guess) {
+        if (guess == null) return checkGuess((String) null);
+        return checkGuess(guess.length() != settings.getWordLength() ? WordCodec.INVALID : guess.packed(), guess.toString());
+    }
+
+    /**
+     * Check a packed guess and return the result
+     *
+     * @param packedGuess the packed guess (INVALID if it can't be packed)
+     * @param guess       the guess (as submitted, stored in the result)
+     * @return the result
+     */
+    private GuessResult checkGuess(long packedGuess, String guess) {
+        MetricsRegistry metrics = MetricsRegistry.current();
+        long start = metrics.startTimer();
+
+        /*
+         * Check if the word is valid (full letter...), the words that can't be packed are checked as text
+         */
+        int length = settings.getWordLength();
+        boolean packed = packedGuess != WordCodec.INVALID && target != null;
+        if (packed ? !WordUtils.isValidWord(packedGuess, length) : !WordUtils.isValidWord(guess, length)) {
+            metrics.guessRejected();
             throw new IllegalArgumentException("Invalid guess");
         }
 
         /*
-         * Check if the guess is correct
+         * Hard mode: the guess must use the hints revealed so far (checked in constant time)
+         */
+        if (constraints != null && (!packed || !constraints.allows(packedGuess, length))) {
+            metrics.guessRejected();
+            throw new IllegalArgumentException("The guess must use the revealed hints");
+        }
+
+        /*
+         * Score the guess (packed pattern) and check if the guess is correct (all letters green)
          */
-        guess = guess.toLowerCase();
-        if (guess.equals(targetWord)) {
+        int pattern = packed ? score(packedGuess, target.packed(), length) : score(guess, target == null ? otherTarget : target.toString());
+        boolean correct = pattern == FeedbackPattern.allCorrect(length);
+        if (constraints != null) constraints.apply(packedGuess, pattern, length);
+        if (correct) {
             remainingAttempts = 0;
+        }
+
+        /*
+         * Return [GameResult] object with the feedback (true value if the game is won), and store it in the history
+         */
+        GuessResult result = new GuessResult(guess, correct, pattern);
+        if (results.size() == packedGuesses.length) packedGuesses = Arrays.copyOf(packedGuesses, packedGuesses.length * 2);
+        packedGuesses[results.size()] = packedGuess;
+        results.add(result);
+        metrics.guessScored(start);
+        if (correct) metrics.gameWon();
 
+        /*
+         * Notify the listeners (guess scored, then game won)
+         */
+        for (GameListener listener : listeners) listener.guessScored(this, result);
+        if (correct) {
+            for (GameListener listener : listeners) listener.gameWon(this);
+        }
+        return result;
+    }
+
+    /**
+     * Generate the feedback of a guess against any target word (correct, wrong position, incorrect for each letter)
+     *
+     * @param guess      the guess
+     * @param targetWord the word to guess
+     * @return the feedback
+     */
+    public static LetterFeedback[] generateFeedback(String guess, String targetWord) {
+        return FeedbackPattern.decode(score(guess, targetWord), targetWord.length());
+    }
+
+    /**
+     * Score a guess against a target word (case insensitive), without allocation
+     *
+     * @param guess      the guess
+     * @param targetWord the word to guess
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public static int score(CharSequence guess, CharSequence targetWord) {
+        checkLength(guess.length(), targetWord.length());
+
+        long packedGuess = WordCodec.pack(guess);
+        long packedTarget = WordCodec.pack(targetWord);
+        if (packedGuess == WordCodec.INVALID || packedTarget == WordCodec.INVALID) {
             /*
-             * Return [GameResult] object with a true value and the feedback (game won)
+             * Non ASCII letters can't be packed, use the generic comparison instead
              */
-            return new GuessResult(true, this.generateFeedback(guess));
+            return scoreLetters(guess, targetWord);
+        }
+        return score(packedGuess, packedTarget, targetWord.length());
+    }
+
+    /**
+     * Score a guess against a target word (case insensitive), without allocation
+     *
+     * @param guess      the guess
+     * @param targetWord the word to guess
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public static int score(char[] guess, char[] targetWord) {
+        checkLength(guess.length, targetWord.length);
+
+        long packedGuess = WordCodec.pack(guess);
+        long packedTarget = WordCodec.pack(targetWord);
+        if (packedGuess == WordCodec.INVALID || packedTarget == WordCodec.INVALID) {
+            return scoreLetters(CharBuffer.wrap(guess), CharBuffer.wrap(targetWord));
+        }
+        return score(packedGuess, packedTarget, targetWord.length);
+    }
+
+    /**
+     * Score a guess against a target word, both written in ASCII bytes (case insensitive), without allocation
+     *
+     * @param guess      the guess
+     * @param targetWord the word to guess
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public static int score(byte[] guess, byte[] targetWord) {
+        checkLength(guess.length, targetWord.length);
+
+        long packedGuess = WordCodec.pack(guess);
+        long packedTarget = WordCodec.pack(targetWord);
+        if (packedGuess == WordCodec.INVALID || packedTarget == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Words must only contain ASCII letters");
+        }
+        return score(packedGuess, packedTarget, targetWord.length);
+    }
+
+    /**
+     * Score a packed guess against a packed target word (see WordCodec)
+     * The letters of the target are counted in two longs (4 bits per letter) instead of a nested loop
+     *
+     * @param guess      the packed guess
+     * @param targetWord the packed word to guess
+     * @param length     the length of the words
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public static int score(long guess, long targetWord, int length) {
+        return score(guess, targetWord, lowCounts(targetWord, length), highCounts(targetWord, length), length);
+    }
+
+    /**
+     * Score a packed guess against a packed target word whose letters are already counted (a target scored many times)
+     *
+     * @param guess      the packed guess
+     * @param targetWord the packed word to guess
+     * @param lowCounts  the count of the letters 1 to 16 of the target (see lowCounts)
+     * @param highCounts the count of the letters 17 to 26 of the target (see highCounts)
+     * @param length     the length of the words
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public static int score(long guess, long targetWord, long lowCounts, long highCounts, int length) {
+        int pattern = 0;
+        int greens = 0;
+
+        /*
+         * Check if the letter is at the correct position
+         * If it is, mark it as correct (green) and remove it from the available letters
+         */
+        for (int i = 0; i < length; i++) {
+            int letter = WordCodec.letterAt(guess, i);
+            if (letter == WordCodec.letterAt(targetWord, i)) {
+                pattern += 2 * FeedbackPattern.weight(i);
+                greens |= 1 << i;
+
+                int shift = (letter - 1) << 2;
+                if (shift < 64) lowCounts -= 1L << shift;
+                else highCounts -= 1L << (shift - 64);
+            }
         }
 
         /*
-         * Return [GameResult] object with a false value and the feedback (wrong guess)
+         * Check if the letter is still available in the word (not at the correct position)
+         * If it is, mark it as wrong position (yellow) and consume it, the other letters stay incorrect (gray)
          */
-        return new GuessResult(false, this.generateFeedback(guess));
+        for (int i = 0; i < length; i++) {
+            if ((greens & (1 << i)) != 0) continue;
+
+            int shift = (WordCodec.letterAt(guess, i) - 1) << 2;
+            if (shift < 64) {
+                if (((lowCounts >>> shift) & 0xF) != 0) {
+                    lowCounts -= 1L << shift;
+                    pattern += FeedbackPattern.weight(i);
+                }
+            } else if (((highCounts >>> (shift - 64)) & 0xF) != 0) {
+                highCounts -= 1L << (shift - 64);
+                pattern += FeedbackPattern.weight(i);
+            }
+        }
+
+        return pattern;
     }
 
     /**
-     * Generate the feedback for the guess (correct, wrong position, incorrect for each letter)
+     * Count the letters 1 to 16 of a packed word (4 bits per letter, letter a in the lowest bits)
      *
-     * @param guess the guess
-     * @return the feedback
+     * @param word   the packed word
+     * @param length the length of the word
+     * @return the counts
+     */
+    public static long lowCounts(long word, int length) {
+        long counts = 0;
+        for (int i = 0; i < length; i++) {
+            int shift = (WordCodec.letterAt(word, i) - 1) << 2;
+            if (shift < 64) counts += 1L << shift;
+        }
+        return counts;
+    }
+
+    /**
+     * Count the letters 17 to 26 of a packed word (4 bits per letter, letter q in the lowest bits)
+     *
+     * @param word   the packed word
+     * @param length the length of the word
+     * @return the counts
+     */
+    public static long highCounts(long word, int length) {
+        long counts = 0;
+        for (int i = 0; i < length; i++) {
+            int shift = (WordCodec.letterAt(word, i) - 1) << 2;
+            if (shift >= 64) counts += 1L << (shift - 64);
+        }
+        return counts;
+    }
+
+    /**
+     * Score a guess letter by letter (any letter, case insensitive), without allocation
+     *
+     * @param guess      the guess
+     * @param targetWord the word to guess
+     * @return the packed feedback (see FeedbackPattern)
      */
-    private LetterFeedback[] generateFeedback(String guess) {
-        LetterFeedback[] feedback = new LetterFeedback[5];
-        boolean[] usedTarget = new boolean[5];
-        boolean[] usedGuess = new boolean[5];
+    private static int scoreLetters(CharSequence guess, CharSequence targetWord) {
+        int length = targetWord.length();
+        int pattern = 0;
+        int usedGuess = 0;
+        int usedTarget = 0;
 
         /*
          * Check if the letter is at the correct position
          * If it is, mark it as correct (green)
          */
-        for (int i = 0; i < 5; i++) {
-            if (guess.charAt(i) == targetWord.charAt(i)) {
-                feedback[i] = LetterFeedback.CORRECT;
-                usedTarget[i] = true;
-                usedGuess[i] = true;
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(guess.charAt(i)) == Character.toLowerCase(targetWord.charAt(i))) {
+                pattern += 2 * FeedbackPattern.weight(i);
+                usedGuess |= 1 << i;
+                usedTarget |= 1 << i;
             }
         }
 
@@ -113,49 +452,53 @@ public class GameLogic {
          * Check if the letter is in the word but not at the correct position
          * If it is, mark it as wrong position (yellow)
          */
-        for (int i = 0; i < 5; i++) {
-            if (!usedGuess[i]) {
-                for (int j = 0; j < 5; j++) {
-                    if (!usedTarget[j] && guess.charAt(i) == targetWord.charAt(j)) {
-                        feedback[i] = LetterFeedback.WRONG_POSITION;
-                        usedTarget[j] = true;
-                        usedGuess[i] = true;
-                        break;
-                    }
+        for (int i = 0; i < length; i++) {
+            if ((usedGuess & (1 << i)) != 0) continue;
+
+            char letter = Character.toLowerCase(guess.charAt(i));
+            for (int j = 0; j < length; j++) {
+                if ((usedTarget & (1 << j)) == 0 && letter == Character.toLowerCase(targetWord.charAt(j))) {
+                    pattern += FeedbackPattern.weight(i);
+                    usedTarget |= 1 << j;
+                    break;
                 }
             }
         }
 
-        /*
-         * Check if the letter is not in the word
-         * If it is, mark it as incorrect (gray)
-         */
-        for (int i = 0; i < 5; i++) {
-            if (!usedGuess[i]) feedback[i] = LetterFeedback.INCORRECT;
-        }
+        return pattern;
+    }
 
-        return feedback;
+    /**
+     * Check that the guess and the target word have the same length
+     *
+     * @param guessLength  the length of the guess
+     * @param targetLength the length of the target word
+     */
+    private static void checkLength(int guessLength, int targetLength) {
+        if (guessLength != targetLength) {
+            throw new IllegalArgumentException("The guess and the target word must have the same length");
+        }
     }
 
     /**
-     * Check if the player has lose the game (no remaining attempts)
-     * If it is the case, print the game over messages
+     * Check if the game is over (no remaining attempts, the game is won or lost)
+     * The game over messages are printed by the listeners (see GameListener)
      *
      * @return true if the game is over
      */
     public boolean isGameOver() {
-        boolean isGameOver = remainingAttempts <= 0;
-        if (isGameOver) {
-            System.out.println(Ansi.colorize("\nGame Over!", Attribute.RED_TEXT()));
-            System.out.println(Ansi.colorize("The word was: " + this.getTargetWord(), Attribute.YELLOW_TEXT()));
-        }
-        return isGameOver;
+        return remainingAttempts <= 0;
     }
 
     /**
      * Decrement the remaining attempts
+     * If it was the last attempt, the game is lost (the listeners are notified)
      */
     public void decrementAttempts() {
         remainingAttempts--;
+        if (remainingAttempts == 0) {
+            MetricsRegistry.current().gameLost();
+            for (GameListener listener : listeners) listener.gameLost(this);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,19 +2,28 @@ package fr.haizen.wordle;
 
 import com.diogonunes.jcolor.Ansi;
 import com.diogonunes.jcolor.Attribute;
+import fr.haizen.wordle.daily.DailyWordScheduler;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.event.GameListener;
+import fr.haizen.wordle.objects.GameSettings;
 import fr.haizen.wordle.objects.GuessResult;
-import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.render.TerminalRenderer;
+import fr.haizen.wordle.stats.PlayerStats;
+import fr.haizen.wordle.stats.StatsRecorder;
+import fr.haizen.wordle.stats.StatsStore;
 import fr.haizen.wordle.utils.WordUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created at 27/03/2025 - HaiZen
  * The main class of the game (CLI version, for play)
  */
-public class WordleCLI {
+public class WordleCLI implements GameListener {
 
     /**
      * Instance of the game logic
@@ -27,19 +36,29 @@ public class WordleCLI {
     private final Scanner scanner;
 
     /**
-     * List of guesses (for display)
+     * Renderer of the game (terminal)
      */
-    private final List<String> guesses;
+    private final TerminalRenderer renderer;
 
     /**
-     * Constructor
+     * Constructor (default settings: 5 letters, 6 attempts)
      *
      * @param targetWord the word to guess
      */
     public WordleCLI(String targetWord) {
-        this.gameLogic = new GameLogic(targetWord);
+        this(targetWord, GameSettings.DEFAULT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param targetWord the word to guess
+     * @param settings   the settings of the game (word length, attempts)
+     */
+    public WordleCLI(String targetWord, GameSettings settings) {
+        this.gameLogic = new GameLogic(targetWord, settings);
         this.scanner = new Scanner(System.in);
-        this.guesses = new ArrayList<>();
+        this.renderer = new TerminalRenderer(System.out, settings.getMaxAttempts(), settings.getWordLength());
     }
 
     /**
@@ -47,40 +66,25 @@ public class WordleCLI {
      */
     public void start() {
         /*
-         * Print the default game information
+         * Listen to the game events (tiles, win and game over messages), and print the default game information
          */
-        clearScreen();
-        printLogo();
-        printInstructions();
+        gameLogic.addListener(this);
+        printGameState();
 
         /*
          * Loop until the game is over
          */
         while (!gameLogic.isGameOver()) {
-            /*
-             * Print the game state (guesses, remaining attempts)
-             */
-            printGameState();
-
             /*
              * Get the guess from the user
              */
             String guess = getGuess();
+            GuessResult result;
             try {
                 /*
-                 * Check the guess (valid world, the word is correct..)
+                 * Check the guess (valid world, the word is correct..), the result is stored in the history
                  */
-                GuessResult result = gameLogic.checkGuess(guess);
-                guesses.add(guess);
-
-                /*
-                 * If the word is correct, print the game state and the win message
-                 */
-                if (result.isCorrect()) {
-                    printGameState();
-                    printWinMessage();
-                    break;
-                }
+                result = gameLogic.checkGuess(guess);
             } catch (IllegalArgumentException e) {
                 /*
                  * If the word is not valid, print an error message (and continue the loop)
@@ -90,96 +94,41 @@ public class WordleCLI {
             }
 
             /*
-             * Decrement the remaining attempts
+             * Decrement the remaining attempts (if the word is not correct), and print the game state
              */
-            gameLogic.decrementAttempts();
-        }
-    }
-
-    /**
-     * Clear the screen (for a better display)
-     */
-    private void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
-    }
-
-    /**
-     * Print the logo
-     */
-    private void printLogo() {
-        for (String line : WordUtils.WORDLE_LOGO) {
-            System.out.println(Ansi.colorize(line, Attribute.BLUE_TEXT()));
+            if (!result.isCorrect()) gameLogic.decrementAttempts();
+            printGameState();
         }
-        System.out.println();
-    }
-
-    /**
-     * Print the instructions
-     */
-    private void printInstructions() {
-        System.out.println(Ansi.colorize("Welcome to Wordle!", Attribute.YELLOW_TEXT()));
-        System.out.println(Ansi.colorize("Try to guess the 5-letter word in 6 attempts.", Attribute.WHITE_TEXT()));
-        System.out.println(Ansi.colorize("After each guess, the color of the tiles will change to show how close your guess was to the word.", Attribute.WHITE_TEXT()));
-        System.out.println();
+        renderer.finish();
     }
 
-    /**
-     * Print the game state (previous guesses, remaining attempts)
-     */
-    private void printGameState() {
+    @Override
+    public void guessScored(GameLogic game, GuessResult result) {
         /*
-         * Clear the screen and print the logo
+         * The tiles of the guess are cached by the renderer, the previous error is removed
          */
-        clearScreen();
-        printLogo();
-
-        /*
-         * Print the previous guesses and their feedback (colors for each letter)
-         */
-        for (String guess : guesses) {
-            GuessResult result = gameLogic.checkGuess(guess);
-            printGuessResult(guess, result.getFeedback());
-        }
-
-        /*
-         * Print empty rows for the remaining attempts
-         */
-        for (int i = guesses.size(); i < 6; i++) {
-            printEmptyRow();
-        }
+        renderer.submit(game.getHistory().size() - 1, result);
+        renderer.setMessages("", "", Attribute.WHITE_TEXT());
+    }
 
-        /*
-         * Print the remaining attempts
-         */
-        System.out.println();
-        System.out.println(Ansi.colorize("Remaining attempts: " + gameLogic.getRemainingAttempts(), Attribute.YELLOW_TEXT()));
+    @Override
+    public void gameWon(GameLogic game) {
+        renderer.setPrompt("", Attribute.CYAN_TEXT());
+        renderer.setMessages("Congratulations! You won!", "You found the word in " + game.getHistory().size() + " attempts!", Attribute.GREEN_TEXT());
     }
 
-    /**
-     * Print the guess and its feedback
-     *
-     * @param guess    the guess
-     * @param feedback the feedback
-     */
-    private void printGuessResult(String guess, LetterFeedback[] feedback) {
-        System.out.print("  ");
-        for (int i = 0; i < 5; i++) {
-            Attribute color = feedback[i].getColor();
-            System.out.print(Ansi.colorize("[" + guess.charAt(i) + "]", color));
-        }
-        System.out.println();
+    @Override
+    public void gameLost(GameLogic game) {
+        renderer.setPrompt("", Attribute.CYAN_TEXT());
+        renderer.setMessages("Game Over!", "The word was: " + game.getTargetWord(), Attribute.RED_TEXT());
     }
 
     /**
-     * Print an empty row
+     * Print the game state (only the cells that changed since the last frame)
      */
-    private void printEmptyRow() {
-        System.out.print("  ");
-        for (int i = 0; i < 5; i++) {
-            System.out.print(Ansi.colorize("[ ]", Attribute.WHITE_TEXT()));
-        }
-        System.out.println();
+    private void printGameState() {
+        renderer.setStatus("Remaining attempts: " + gameLogic.getRemainingAttempts(), Attribute.YELLOW_TEXT());
+        renderer.render();
     }
 
     /**
@@ -188,49 +137,71 @@ public class WordleCLI {
      * @return the guess
      */
     private String getGuess() {
-        System.out.print(Ansi.colorize("Enter your guess: ", Attribute.CYAN_TEXT()));
+        renderer.setPrompt("Enter your guess: ", Attribute.CYAN_TEXT());
+        renderer.render();
         return scanner.nextLine().toUpperCase();
     }
 
     /**
-     * Print an error message
+     * Print an error message (until the next valid guess)
      */
     private void printError() {
-        System.out.println(Ansi.colorize("Invalid word! Please enter a 5-letter word.", Attribute.RED_TEXT()));
-
-        /*
-         * Wait 2 seconds (for a better display, the user can see the error message)
-         */
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    /**
-     * Print the win message
-     */
-    private void printWinMessage() {
-        System.out.println(Ansi.colorize("\nCongratulations! You won!", Attribute.GREEN_TEXT()));
-        System.out.println(Ansi.colorize("You found the word in " + guesses.size() + " attempts!", Attribute.YELLOW_TEXT()));
+        renderer.setMessages("Invalid word! Please enter a " + gameLogic.getSettings().getWordLength() + "-letter word.", "", Attribute.RED_TEXT());
     }
 
     /**
      * Main method
      *
-     * @param args the arguments
+     * @param args the arguments (optional: answers file, allowed guesses file, stats directory)
+     * @throws IOException if a word list can't be read
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         /*
-         * The word to guess (for testing, we'll use a fixed word "HELLO")
+         * The word to guess (without word list, for testing, we'll use a fixed word "HELLO")
          */
         String word = "HELLO";
+        int answerIndex = -1;
+
+        /*
+         * Load the word lists: the answers, and the allowed guesses (the dictionary of the valid words)
+         */
+        if (args.length > 0) {
+            WordList answers = WordList.load(Path.of(args[0]));
+            if (answers.size() == 0) {
+                throw new IOException("The answers file is empty: " + args[0]);
+            }
+
+            if (args.length > 1) WordUtils.setDictionary(answers, WordList.load(Path.of(args[1])));
+            else WordUtils.setDictionary(answers);
+
+            /*
+             * The word of the day (the same for every player)
+             */
+            DailyWordScheduler daily = new DailyWordScheduler(answers, DailyWordScheduler.DEFAULT_SEED, 7, ForkJoinPool.commonPool());
+            answerIndex = daily.answerIndex(LocalDate.now());
+            word = answers.word(answerIndex).toUpperCase();
+        }
 
         /*
          * Create a new instance of the game and start it
          */
         WordleCLI game = new WordleCLI(word);
-        game.start();
+        if (args.length < 3 || answerIndex < 0) {
+            game.start();
+            return;
+        }
+
+        /*
+         * Record the outcome in the statistics of the player (stats directory), and print them
+         */
+        long playerId = System.getProperty("user.name", "player").hashCode();
+        try (StatsStore stats = StatsStore.open(Path.of(args[2]))) {
+            game.gameLogic.addListener(new StatsRecorder(stats, playerId, answerIndex));
+            game.start();
+
+            PlayerStats player = stats.player(playerId);
+            System.out.println(Ansi.colorize(String.format("Played: %d | Win: %.0f%% | Current streak: %d | Max streak: %d",
+                    player.getGames(), player.getWinRate() * 100, player.getCurrentStreak(), player.getMaxStreak()), Attribute.YELLOW_TEXT()));
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package fr.haizen.wordle.daily;
+
+import fr.haizen.wordle.dictionary.WordList;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class gives the answer of the day, the same on every instance for the same answers and seed (no coordination)
+ * The answers are played in the order of a seeded permutation (one answer per day since the epoch, then again)
+ * The words of a window of days around today are precomputed: the answer of a day is an array lookup
+ */
+public class DailyWordScheduler {
+
+    /**
+     * The first day of the calendar
+     */
+    public static final LocalDate EPOCH = LocalDate.of(2025, 3, 24);
+
+    /**
+     * The default seed of the permutation
+     */
+    public static final long DEFAULT_SEED = 0x574F52444C45L;
+
+    /**
+     * The days kept before today in the window (players in other time zones)
+     */
+    private static final int DAYS_BEFORE = 1;
+
+    /**
+     * The number of days of the window
+     */
+    private final int windowDays;
+
+    /**
+     * The executor rebuilding the calendar
+     */
+    private final Executor executor;
+
+    /**
+     * The clock giving today
+     */
+    private final Clock clock;
+
+    /**
+     * The calendar (replaced at once when it is rebuilt, the rebuilds are synchronized)
+     */
+    private volatile Calendar calendar;
+
+    /**
+     * If the window is being moved (only one rebuild at once)
+     */
+    private final AtomicBoolean moving = new AtomicBoolean();
+
+    /**
+     * Constructor (system clock)
+     *
+     * @param answers    the possible answers
+     * @param seed       the seed of the permutation
+     * @param windowDays the number of days of the window
+     * @param executor   the executor rebuilding the calendar
+     */
+    public DailyWordScheduler(WordList answers, long seed, int windowDays, Executor executor) {
+        this(answers, seed, windowDays, executor, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param answers    the possible answers
+     * @param seed       the seed of the permutation
+     * @param windowDays the number of days of the window
+     * @param executor   the executor rebuilding the calendar
+     * @param clock      the clock giving today
+     */
+    public DailyWordScheduler(WordList answers, long seed, int windowDays, Executor executor, Clock clock) {
+        if (windowDays <= DAYS_BEFORE) {
+            throw new IllegalArgumentException("The window must be longer than " + DAYS_BEFORE + " day");
+        }
+
+        this.windowDays = windowDays;
+        this.executor = executor;
+        this.clock = clock;
+        this.calendar = Calendar.build(answers, seed, firstDay(), windowDays);
+    }
+
+    /**
+     * Get the answer of a day
+     *
+     * @param date the day
+     * @return the answer (lower case)
+     */
+    public String answer(LocalDate date) {
+        Calendar current = calendar;
+        long offset = date.toEpochDay() - current.firstDay;
+        if (offset >= 0 && offset < current.words.length) return current.words[(int) offset];
+
+        /*
+         * Outside of the window: computed from the permutation, and the window is moved to today
+         */
+        moveWindow(current);
+        return current.answers.word(current.answerIndex(date.toEpochDay()));
+    }
+
+    /**
+     * Get the index of the answer of a day
+     *
+     * @param date the day
+     * @return the index of the answer (in the answers word list)
+     */
+    public int answerIndex(LocalDate date) {
+        Calendar current = calendar;
+        long offset = date.toEpochDay() - current.firstDay;
+        if (offset >= 0 && offset < current.indexes.length) return current.indexes[(int) offset];
+
+        moveWindow(current);
+        return current.answerIndex(date.toEpochDay());
+    }
+
+    /**
+     * Get the answer of today
+     *
+     * @return the answer (lower case)
+     */
+    public String today() {
+        return answer(LocalDate.now(clock));
+    }
+
+    /**
+     * Change the answers or the seed, the calendar is rebuilt in the background
+     * (the previous calendar is used until the new one is ready)
+     *
+     * @param answers the possible answers
+     * @param seed    the seed of the permutation
+     * @return the rebuild, completed when the new calendar is used
+     */
+    public CompletableFuture<Void> update(WordList answers, long seed) {
+        return CompletableFuture.runAsync(() -> {
+            synchronized (this) {
+                calendar = Calendar.build(answers, seed, firstDay(), windowDays);
+            }
+        }, executor);
+    }
+
+    /**
+     * Move the window to today in the background (if it is not already moving)
+     *
+     * @param current the calendar outside of its window
+     */
+    private void moveWindow(Calendar current) {
+        if (current.firstDay == firstDay() || !moving.compareAndSet(false, true)) return;
+
+        executor.execute(() -> {
+            try {
+                synchronized (this) {
+                    Calendar latest = calendar;
+                    calendar = new Calendar(latest.answers, latest.permutation, firstDay(), windowDays);
+                }
+            } finally {
+                moving.set(false);
+            }
+        });
+    }
+
+    /**
+     * Get the first day of the window for today
+     *
+     * @return the first day (epoch day)
+     */
+    private long firstDay() {
+        return LocalDate.now(clock).toEpochDay() - DAYS_BEFORE;
+    }
+
+    /**
+     * The calendar: the permutation of the answers and the precomputed window (immutable)
+     */
+    private static final class Calendar {
+
+        private final WordList answers;
+        private final int[] permutation;
+        private final long firstDay;
+        private final int[] indexes;
+        private final String[] words;
+
+        private Calendar(WordList answers, int[] permutation, long firstDay, int windowDays) {
+            this.answers = answers;
+            this.permutation = permutation;
+            this.firstDay = firstDay;
+            this.indexes = new int[windowDays];
+            this.words = new String[windowDays];
+
+            for (int day = 0; day < windowDays; day++) {
+                indexes[day] = answerIndex(firstDay + day);
+                words[day] = answers.word(indexes[day]);
+            }
+        }
+
+        /**
+         * Build a calendar (seeded Fisher-Yates shuffle of the answer indexes)
+         */
+        static Calendar build(WordList answers, long seed, long firstDay, int windowDays) {
+            if (answers.size() == 0) {
+                throw new IllegalArgumentException("No answer to schedule");
+            }
+
+            int[] permutation = new int[answers.size()];
+            for (int i = 0; i < permutation.length; i++) permutation[i] = i;
+
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = permutation.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = permutation[i];
+                permutation[i] = permutation[j];
+                permutation[j] = swap;
+            }
+            return new Calendar(answers, permutation, firstDay, windowDays);
+        }
+
+        /**
+         * Get the index of the answer of a day, from the permutation
+         *
+         * @param epochDay the day
+         * @return the index of the answer
+         */
+        int answerIndex(long epochDay) {
+            return permutation[(int) Math.floorMod(epochDay - EPOCH.toEpochDay(), (long) permutation.length)];
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package fr.haizen.wordle.dictionary;
+
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class indexes a word list with bitsets (one bit per word) to filter the words matching a feedback
+ * - a bitset per position and letter (words with this letter at this position)
+ * - a bitset per letter and count (words with at least this count of the letter)
+ */
+public class CandidateIndex {
+
+    /**
+     * The number of letters of the alphabet
+     */
+    private static final int ALPHABET_SIZE = 26;
+
+    /**
+     * The indexed words (lower case)
+     */
+    private final String[] words;
+
+    /**
+     * The number of letters of the words
+     */
+    @Getter
+    private final int wordLength;
+
+    /**
+     * The number of indexed words
+     */
+    @Getter
+    private final int size;
+
+    /**
+     * The words with a letter at a position [position][letter][block]
+     */
+    private final long[][][] letterAt;
+
+    /**
+     * The words with at least (count + 1) times a letter [letter][count][block]
+     */
+    private final long[][][] letterCount;
+
+    /**
+     * Constructor (words of the default length)
+     *
+     * @param words the words to index (5 ASCII letters)
+     */
+    public CandidateIndex(List<String> words) {
+        this(words, WordUtils.WORD_LENGTH);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param words      the words to index (ASCII letters)
+     * @param wordLength the number of letters of the words
+     */
+    public CandidateIndex(List<String> words, int wordLength) {
+        if (wordLength < 1 || wordLength > WordCodec.MAX_LENGTH) {
+            throw new IllegalArgumentException("The word length must be between 1 and " + WordCodec.MAX_LENGTH);
+        }
+
+        this.wordLength = wordLength;
+        this.size = words.size();
+        this.words = new String[size];
+
+        int blocks = (size + 63) >>> 6;
+        this.letterAt = new long[wordLength][ALPHABET_SIZE][blocks];
+        this.letterCount = new long[ALPHABET_SIZE][wordLength][blocks];
+
+        /*
+         * The words are checked locally (length and letters), the installed dictionary doesn't matter here
+         */
+        for (int index = 0; index < size; index++) {
+            String word = words.get(index);
+            long packed = word != null && word.length() == wordLength ? WordCodec.pack(word) : WordCodec.INVALID;
+            if (packed == WordCodec.INVALID) {
+                throw new IllegalArgumentException("Invalid word: " + word);
+            }
+            this.words[index] = word.toLowerCase();
+
+            /*
+             * Set the bit of the word for each letter position, and for each count of the letter
+             */
+            long bit = 1L << index;
+            int[] counts = new int[ALPHABET_SIZE];
+            for (int position = 0; position < wordLength; position++) {
+                int letter = WordCodec.letterAt(packed, position) - 1;
+                letterAt[position][letter][index >>> 6] |= bit;
+                letterCount[letter][counts[letter]++][index >>> 6] |= bit;
+            }
+        }
+    }
+
+    /**
+     * Create a view of all the words, to filter with the results of a game
+     *
+     * @return the view
+     */
+    public RemainingCandidates newView() {
+        long[] bits = new long[(size + 63) >>> 6];
+        for (int block = 0; block < bits.length; block++) bits[block] = -1L;
+        if ((size & 63) != 0) bits[bits.length - 1] = (1L << size) - 1;
+        return new RemainingCandidates(this, bits);
+    }
+
+    /**
+     * Get an indexed word
+     *
+     * @param index the index of the word
+     * @return the word (lower case)
+     */
+    public String word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Remove the words that don't match the result of a guess
+     *
+     * @param bits   the words to filter (one bit per word)
+     * @param result the result of the guess
+     */
+    void filter(long[] bits, GuessResult result) {
+        String guess = result.getGuess();
+        if (guess.length() != wordLength) {
+            throw new IllegalArgumentException("The guess must have " + wordLength + " letters");
+        }
+        LetterFeedback[] feedback = result.getFeedback();
+
+        for (int position = 0; position < wordLength; position++) {
+            int letter = WordCodec.letterCode(guess.charAt(position)) - 1;
+
+            /*
+             * A letter outside of the index (non ASCII) is never in a word
+             */
+            if (letter < 0) {
+                if (feedback[position] != LetterFeedback.INCORRECT) clear(bits);
+                continue;
+            }
+
+            /*
+             * Green: the letter is at this position, yellow or gray: the letter is not at this position
+             */
+            if (feedback[position] == LetterFeedback.CORRECT) and(bits, letterAt[position][letter]);
+            else andNot(bits, letterAt[position][letter]);
+
+            /*
+             * Count the letter once (at its first position): at least the greens and yellows,
+             * and exactly this count if one of them is gray
+             */
+            if (isRepeated(guess, position, letter)) continue;
+
+            int found = 0;
+            boolean gray = false;
+            for (int other = position; other < wordLength; other++) {
+                if (WordCodec.letterCode(guess.charAt(other)) - 1 != letter) continue;
+                if (feedback[other] == LetterFeedback.INCORRECT) gray = true;
+                else found++;
+            }
+
+            if (found > 0) and(bits, letterCount[letter][found - 1]);
+            if (gray && found < wordLength) andNot(bits, letterCount[letter][found]);
+        }
+    }
+
+    /**
+     * Check if a letter is already in the guess before a position
+     *
+     * @param guess    the guess
+     * @param position the position of the letter
+     * @param letter   the letter (0 - 25)
+     * @return true if the letter was already counted
+     */
+    private static boolean isRepeated(String guess, int position, int letter) {
+        for (int other = 0; other < position; other++) {
+            if (WordCodec.letterCode(guess.charAt(other)) - 1 == letter) return true;
+        }
+        return false;
+    }
+
+    private static void and(long[] bits, long[] mask) {
+        for (int block = 0; block < bits.length; block++) bits[block] &= mask[block];
+    }
+
+    private static void andNot(long[] bits, long[] mask) {
+        for (int block = 0; block < bits.length; block++) bits[block] &= ~mask[block];
+    }
+
+    private static void clear(long[] bits) {
+        for (int block = 0; block < bits.length; block++) bits[block] = 0;
+    }
+}
@@ -0,0 +1,102 @@
+package fr.haizen.wordle.dictionary;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.event.GameListener;
+import fr.haizen.wordle.objects.GuessResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is the view of the words still possible in a game (one bit per word of the index)
+ * Each result of the game is applied once, the view is only narrowed
+ * The view can listen to a game (GameLogic.addListener) to be narrowed on each guess
+ */
+public class RemainingCandidates implements GameListener {
+
+    /**
+     * The index of the words
+     */
+    private final CandidateIndex index;
+
+    /**
+     * The words still possible (one bit per word)
+     */
+    private final long[] bits;
+
+    /**
+     * Constructor
+     *
+     * @param index the index of the words
+     * @param bits  the words still possible
+     */
+    RemainingCandidates(CandidateIndex index, long[] bits) {
+        this.index = index;
+        this.bits = bits;
+    }
+
+    /**
+     * Remove the words that don't match the result of a guess
+     *
+     * @param result the result of the guess
+     */
+    public void apply(GuessResult result) {
+        index.filter(bits, result);
+    }
+
+    @Override
+    public void guessScored(GameLogic game, GuessResult result) {
+        apply(result);
+    }
+
+    /**
+     * Get the number of words still possible
+     *
+     * @return the number of words
+     */
+    public int count() {
+        int count = 0;
+        for (long block : bits) count += Long.bitCount(block);
+        return count;
+    }
+
+    /**
+     * Check if a word of the index is still possible
+     *
+     * @param wordIndex the index of the word
+     * @return true if the word is still possible
+     */
+    public boolean contains(int wordIndex) {
+        return (bits[wordIndex >>> 6] & (1L << wordIndex)) != 0;
+    }
+
+    /**
+     * Get the index of the next word still possible
+     *
+     * @param fromIndex the first index to check
+     * @return the index of the word, -1 if there is none
+     */
+    public int nextIndex(int fromIndex) {
+        int block = fromIndex >>> 6;
+        if (block >= bits.length) return -1;
+
+        long word = bits[block] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++block == bits.length) return -1;
+            word = bits[block];
+        }
+        return (block << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Get the words still possible
+     *
+     * @return the words (lower case)
+     */
+    public List<String> words() {
+        List<String> words = new ArrayList<>(count());
+        for (int i = nextIndex(0); i >= 0; i = nextIndex(i + 1)) words.add(index.word(i));
+        return words;
+    }
+}
@@ -0,0 +1,343 @@
+package fr.haizen.wordle.dictionary;
+
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is a list of words stored as packed records (5 lower case ASCII bytes per word, sorted, no duplicate)
+ * A packed file is memory-mapped, so no String is created until a word is read
+ */
+public class WordList {
+
+    /**
+     * The size of a record (one byte per letter)
+     */
+    public static final int RECORD_SIZE = WordUtils.WORD_LENGTH;
+
+    /**
+     * The records (memory-mapped file or heap buffer)
+     */
+    private final ByteBuffer records;
+
+    /**
+     * The number of words
+     */
+    private final int size;
+
+    /**
+     * Constructor
+     *
+     * @param records the records
+     */
+    private WordList(ByteBuffer records) {
+        this.records = records;
+        this.size = records.capacity() / RECORD_SIZE;
+    }
+
+    /**
+     * Load a word list, packed file (.bin) or text file (one word per line)
+     *
+     * @param file the file
+     * @return the word list
+     * @throws IOException if the file can't be read or contains invalid words
+     */
+    public static WordList load(Path file) throws IOException {
+        return file.getFileName().toString().endsWith(".bin") ? open(file) : fromText(file);
+    }
+
+    /**
+     * Open a packed file (memory-mapped, read only)
+     *
+     * @param file the packed file
+     * @return the word list
+     * @throws IOException if the file can't be read or is not a packed word list
+     */
+    public static WordList open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() % RECORD_SIZE != 0 || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a packed word list: " + file);
+            }
+
+            WordList words = new WordList(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+            /*
+             * Check the records (the lookups need sorted lower case words)
+             */
+            long previous = -1;
+            for (int index = 0; index < words.size; index++) {
+                long key = words.key(index);
+                if (key <= previous || !words.isLowerCase(index)) {
+                    throw new IOException("Invalid or unsorted word #" + index + " in " + file);
+                }
+                previous = key;
+            }
+            return words;
+        }
+    }
+
+    /**
+     * Read a text file (one word per line, empty lines and lines starting with '#' are ignored)
+     *
+     * @param file the text file
+     * @return the word list (in memory)
+     * @throws IOException if the file can't be read or contains invalid words
+     */
+    public static WordList fromText(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        long[] keys = new long[content.length / RECORD_SIZE + 1];
+        int count = 0;
+
+        int start = 0;
+        while (start < content.length) {
+            int end = start;
+            while (end < content.length && content[end] != '\n') end++;
+
+            /*
+             * Trim the line (unsigned bytes, the non ASCII bytes are not spaces), and pack it as a sort key
+             * (5 lower case bytes, first letter highest)
+             */
+            int from = start;
+            int to = end;
+            while (from < to && (content[from] & 0xFF) <= ' ') from++;
+            while (to > from && (content[to - 1] & 0xFF) <= ' ') to--;
+
+            if (to > from && content[from] != '#') {
+                if (to - from != RECORD_SIZE) {
+                    throw new IOException("Invalid word '" + new String(content, from, to - from, StandardCharsets.UTF_8) + "' in " + file);
+                }
+
+                long key = 0;
+                for (int i = from; i < to; i++) {
+                    int code = WordCodec.letterCode(content[i] & 0xFF);
+                    if (code == 0) {
+                        throw new IOException("Invalid word '" + new String(content, from, to - from, StandardCharsets.UTF_8) + "' in " + file);
+                    }
+                    key = (key << 8) | ('a' - 1 + code);
+                }
+                keys[count++] = key;
+            }
+            start = end + 1;
+        }
+
+        return fromKeys(keys, count);
+    }
+
+    /**
+     * Create a word list from words (in memory)
+     *
+     * @param words the words (5 ASCII letters)
+     * @return the word list
+     */
+    public static WordList of(List<String> words) {
+        long[] keys = new long[words.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyOf(words.get(i));
+            if (keys[i] < 0) throw new IllegalArgumentException("Invalid word: " + words.get(i));
+        }
+        return fromKeys(keys, keys.length);
+    }
+
+    /**
+     * Convert a text file to a packed file
+     *
+     * @param textFile   the text file
+     * @param packedFile the packed file (created or replaced)
+     * @return the word list (memory-mapped from the packed file)
+     * @throws IOException if a file can't be read or written
+     */
+    public static WordList pack(Path textFile, Path packedFile) throws IOException {
+        WordList words = fromText(textFile);
+        try (FileChannel channel = FileChannel.open(packedFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer records = words.records.duplicate().clear();
+            while (records.hasRemaining()) channel.write(records);
+        }
+        return open(packedFile);
+    }
+
+    /**
+     * Get the number of words
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get a word
+     *
+     * @param index the index of the word
+     * @return the word (lower case)
+     */
+    public String word(int index) {
+        byte[] letters = new byte[RECORD_SIZE];
+        copy(index, letters);
+        return new String(letters, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Copy the letters of a word (lower case ASCII bytes)
+     *
+     * @param index       the index of the word
+     * @param destination the array to fill (at least 5 bytes)
+     */
+    public void copy(int index, byte[] destination) {
+        records.get(checkIndex(index) * RECORD_SIZE, destination, 0, RECORD_SIZE);
+    }
+
+    /**
+     * Get a word packed with WordCodec
+     *
+     * @param index the index of the word
+     * @return the packed word
+     */
+    public long packed(int index) {
+        int offset = checkIndex(index) * RECORD_SIZE;
+        long packed = 0;
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            packed |= (long) (records.get(offset + i) - 'a' + 1) << (i * WordCodec.BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Get the index of a word (binary search on the records, case insensitive)
+     *
+     * @param word the word
+     * @return the index of the word, -1 if the word is not in the list
+     */
+    public int indexOf(CharSequence word) {
+        long key = keyOf(word);
+        if (key < 0) return -1;
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleKey = key(middle);
+            if (middleKey < key) low = middle + 1;
+            else if (middleKey > key) high = middle - 1;
+            else return middle;
+        }
+        return -1;
+    }
+
+    /**
+     * Check if a word is in the list (case insensitive)
+     *
+     * @param word the word
+     * @return true if the word is in the list
+     */
+    public boolean contains(CharSequence word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Get a view of the words as a list (each word is read when it is accessed)
+     *
+     * @return the list of words
+     */
+    public List<String> asList() {
+        return new Words();
+    }
+
+    /**
+     * Get the sort key of a record (5 bytes, first letter highest)
+     *
+     * @param index the index of the record
+     * @return the key
+     */
+    private long key(int index) {
+        int offset = index * RECORD_SIZE;
+        long key = 0;
+        for (int i = 0; i < RECORD_SIZE; i++) key = (key << 8) | (records.get(offset + i) & 0xFF);
+        return key;
+    }
+
+    /**
+     * Check if a record only contains lower case ASCII letters
+     *
+     * @param index the index of the record
+     * @return true if the record is valid
+     */
+    private boolean isLowerCase(int index) {
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            byte letter = records.get(index * RECORD_SIZE + i);
+            if (letter < 'a' || letter > 'z') return false;
+        }
+        return true;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Word index " + index + ", size " + size);
+        return index;
+    }
+
+    /**
+     * Get the sort key of a word
+     *
+     * @param word the word
+     * @return the key, -1 if the word is not 5 ASCII letters
+     */
+    private static long keyOf(CharSequence word) {
+        if (word.length() != RECORD_SIZE) return -1;
+
+        long key = 0;
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            int code = WordCodec.letterCode(word.charAt(i));
+            if (code == 0) return -1;
+            key = (key << 8) | ('a' - 1 + code);
+        }
+        return key;
+    }
+
+    /**
+     * Create a word list from sort keys (sorted and deduplicated here)
+     *
+     * @param keys  the keys
+     * @param count the number of keys
+     * @return the word list
+     */
+    private static WordList fromKeys(long[] keys, int count) {
+        Arrays.sort(keys, 0, count);
+
+        ByteBuffer records = ByteBuffer.allocate(count * RECORD_SIZE);
+        long previous = -1;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == previous) continue;
+            previous = keys[i];
+            for (int shift = (RECORD_SIZE - 1) * 8; shift >= 0; shift -= 8) records.put((byte) (keys[i] >>> shift));
+        }
+        return new WordList(records.flip().slice());
+    }
+
+    /**
+     * The view of the words as a list
+     */
+    private class Words extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(int index) {
+            return word(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package fr.haizen.wordle.dictionary;
+
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is a set of words with a constant time lookup
+ * Each ASCII 5-letter word is packed in 25 bits (see WordCodec) and used as the index of a bit in a 32M-bit bitmap (4 MB)
+ * The words with other letters (accents...) or other lengths (4 to 8 letters) are kept in a hash set
+ */
+public class WordSet {
+
+    /**
+     * The number of bits of a packed 5-letter word
+     */
+    private static final int PACKED_BITS = WordUtils.WORD_LENGTH * WordCodec.BITS_PER_LETTER;
+
+    /**
+     * The bitmap of the packed words (one bit per possible packed word)
+     */
+    private final long[] bitmap = new long[1 << (PACKED_BITS - 6)];
+
+    /**
+     * The words that can't be packed (lower case)
+     */
+    private final Set<String> otherWords = new HashSet<>();
+
+    /**
+     * The lengths of the words (bit length set if the set has a word of this length)
+     */
+    private int lengths;
+
+    /**
+     * The number of words
+     */
+    private int size;
+
+    /**
+     * Create a set with the words of word lists
+     *
+     * @param wordLists the word lists
+     * @return the set
+     */
+    public static WordSet of(WordList... wordLists) {
+        WordSet set = new WordSet();
+        for (WordList wordList : wordLists) {
+            for (int index = 0; index < wordList.size(); index++) set.add((int) wordList.packed(index));
+        }
+        return set;
+    }
+
+    /**
+     * Add a word
+     *
+     * @param word the word (4 to 8 letters)
+     */
+    public void add(CharSequence word) {
+        if (word.length() < GameSettings.MIN_WORD_LENGTH || word.length() > GameSettings.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Invalid word: " + word);
+        }
+
+        long packed = word.length() == WordUtils.WORD_LENGTH ? WordCodec.pack(word) : WordCodec.INVALID;
+        if (packed != WordCodec.INVALID) add((int) packed);
+        else if (otherWords.add(word.toString().toLowerCase())) {
+            lengths |= 1 << word.length();
+            size++;
+        }
+    }
+
+    /**
+     * Check if a word is in the set (case insensitive, no allocation for ASCII words)
+     *
+     * @param word the word
+     * @return true if the word is in the set
+     */
+    public boolean contains(CharSequence word) {
+        long packed = word.length() == WordUtils.WORD_LENGTH ? WordCodec.pack(word) : WordCodec.INVALID;
+        if (packed != WordCodec.INVALID) return contains((int) packed);
+
+        /*
+         * Fallback for the other letters and lengths (only when there are such words)
+         */
+        return !otherWords.isEmpty() && otherWords.contains(word.toString().toLowerCase());
+    }
+
+    /**
+     * Check if a packed word is in the set
+     *
+     * @param packed the packed word (see WordCodec)
+     * @return true if the word is in the set
+     */
+    public boolean contains(int packed) {
+        return (bitmap[packed >>> 6] & (1L << packed)) != 0;
+    }
+
+    /**
+     * Check if the set has words of a length
+     *
+     * @param length the length of the words
+     * @return true if at least one word has this length
+     */
+    public boolean hasLength(int length) {
+        return length >= 0 && length < Integer.SIZE && (lengths & (1 << length)) != 0;
+    }
+
+    /**
+     * Get the number of words
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add a packed word
+     *
+     * @param packed the packed word
+     */
+    private void add(int packed) {
+        long bit = 1L << packed;
+        if ((bitmap[packed >>> 6] & bit) == 0) {
+            bitmap[packed >>> 6] |= bit;
+            lengths |= 1 << WordUtils.WORD_LENGTH;
+            size++;
+        }
+    }
+}
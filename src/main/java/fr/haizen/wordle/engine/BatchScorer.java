@@ -0,0 +1,204 @@
+package fr.haizen.wordle.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class scores (guess, answer) pairs in bulk, with the game rules (GameLogic.score)
+ * The input is columnar (one int array of packed guesses, one of packed answers, see WordCodec)
+ * and each pattern is written as one byte in an output buffer given by the caller
+ * The ranges are scored by a ScoringBackend (vector when the Vector API is available, else scalar)
+ */
+public class BatchScorer {
+
+    /**
+     * The number of pairs scored by a single fork-join task
+     */
+    private static final int PAIRS_PER_TASK = 8192;
+
+    /**
+     * The number of pairs read at once from a stream
+     */
+    private static final int PAIRS_PER_CHUNK = 1 << 20;
+
+    /**
+     * The pool used to score the pairs
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The backend scoring a range of pairs
+     */
+    private final ScoringBackend backend;
+
+    /**
+     * Constructor (best backend available)
+     *
+     * @param pool the pool used to score the pairs
+     */
+    public BatchScorer(ForkJoinPool pool) {
+        this(pool, ScoringBackend.best());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param pool    the pool used to score the pairs
+     * @param backend the backend scoring a range of pairs
+     */
+    public BatchScorer(ForkJoinPool pool, ScoringBackend backend) {
+        this.pool = pool;
+        this.backend = backend;
+    }
+
+    /**
+     * Score every pair (guesses[i], answers[i]) into output[i]
+     *
+     * @param guesses the packed guesses (5 letters)
+     * @param answers the packed answers (5 letters)
+     * @param output  the patterns (one byte per pair)
+     */
+    public void score(int[] guesses, int[] answers, byte[] output) {
+        if (guesses.length != answers.length || output.length < guesses.length) {
+            throw new IllegalArgumentException("The guesses, answers and output must have the same length");
+        }
+        score(guesses, answers, output, 0, guesses.length);
+    }
+
+    /**
+     * Score the pairs (guesses[i], answers[i]) of a range into output[i]
+     *
+     * @param guesses the packed guesses (5 letters)
+     * @param answers the packed answers (5 letters)
+     * @param output  the patterns (one byte per pair)
+     * @param from    the first pair (inclusive)
+     * @param to      the last pair (exclusive)
+     */
+    public void score(int[] guesses, int[] answers, byte[] output, int from, int to) {
+        if (from < 0 || to > guesses.length || to > answers.length || to > output.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+        }
+
+        if (to - from <= PAIRS_PER_TASK) backend.score(guesses, answers, output, from, to);
+        else pool.invoke(new ScoreTask(guesses, answers, 0, output, from, to));
+    }
+
+    /**
+     * Score every guess against a single answer into output[i]
+     *
+     * @param answer  the packed answer (5 letters)
+     * @param guesses the packed guesses (5 letters)
+     * @param output  the patterns (one byte per guess)
+     */
+    public void scoreGuesses(int answer, int[] guesses, byte[] output) {
+        if (output.length < guesses.length) {
+            throw new IllegalArgumentException("The output must have the length of the guesses");
+        }
+
+        if (guesses.length <= PAIRS_PER_TASK) backend.scoreGuesses(answer, guesses, output, 0, guesses.length);
+        else pool.invoke(new ScoreTask(guesses, null, answer, output, 0, guesses.length));
+    }
+
+    /**
+     * Score a stream of pairs, larger than the memory if needed (read and scored by chunks)
+     * Each pair is two big-endian ints (packed guess, packed answer), each pattern is written as one byte
+     *
+     * @param input  the pairs
+     * @param output the patterns
+     * @return the number of scored pairs
+     * @throws IOException if the stream can't be read or written, or ends in the middle of a pair
+     */
+    public long score(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        ByteBuffer pairs = ByteBuffer.allocateDirect(PAIRS_PER_CHUNK * 2 * Integer.BYTES);
+        int[] guesses = new int[PAIRS_PER_CHUNK];
+        int[] answers = new int[PAIRS_PER_CHUNK];
+        byte[] patterns = new byte[PAIRS_PER_CHUNK];
+        long total = 0;
+
+        while (true) {
+            /*
+             * Fill the chunk (or read until the end of the stream)
+             */
+            boolean end = false;
+            while (pairs.hasRemaining()) {
+                if (input.read(pairs) < 0) {
+                    end = true;
+                    break;
+                }
+            }
+            pairs.flip();
+            if (pairs.remaining() % (2 * Integer.BYTES) != 0) {
+                throw new IOException("The stream ends in the middle of a pair");
+            }
+
+            /*
+             * Split the pairs in columns, score them and write the patterns
+             */
+            int count = pairs.remaining() / (2 * Integer.BYTES);
+            IntBuffer ints = pairs.asIntBuffer();
+            for (int i = 0; i < count; i++) {
+                guesses[i] = ints.get(2 * i);
+                answers[i] = ints.get(2 * i + 1);
+            }
+            score(guesses, answers, patterns, 0, count);
+
+            ByteBuffer written = ByteBuffer.wrap(patterns, 0, count);
+            while (written.hasRemaining()) output.write(written);
+
+            total += count;
+            pairs.clear();
+            if (end) return total;
+        }
+    }
+
+    /**
+     * The task scoring a range of pairs (split in two until the range is small enough)
+     */
+    @SuppressWarnings("serial")
+    private class ScoreTask extends RecursiveAction {
+
+        private final int[] guesses;
+        private final int[] answers;
+        private final int answer;
+        private final byte[] output;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructor
+         *
+         * @param guesses the packed guesses
+         * @param answers the packed answers (null to score every guess against the single answer)
+         * @param answer  the single answer (when there is no answers array)
+         * @param output  the patterns
+         * @param from    the first pair (inclusive)
+         * @param to      the last pair (exclusive)
+         */
+        ScoreTask(int[] guesses, int[] answers, int answer, byte[] output, int from, int to) {
+            this.guesses = guesses;
+            this.answers = answers;
+            this.answer = answer;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PAIRS_PER_TASK) {
+                if (answers == null) backend.scoreGuesses(answer, guesses, output, from, to);
+                else backend.score(guesses, answers, output, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(guesses, answers, answer, output, from, middle), new ScoreTask(guesses, answers, answer, output, middle, to));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class precomputes the feedback pattern of every guess against every answer
+ * Each pattern is stored in one byte (see FeedbackPattern), row by row (one row per guess)
+ */
+@Getter
+public class FeedbackMatrix {
+
+    /**
+     * The magic number of a matrix file ("WFBM")
+     */
+    private static final int MAGIC = 0x5746424D;
+
+    /**
+     * The version of the matrix file format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the file header (magic, version, guess count, answer count)
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The number of guesses (rows)
+     */
+    private final int guessCount;
+
+    /**
+     * The number of answers (columns)
+     */
+    private final int answerCount;
+
+    /**
+     * The patterns (heap byte[] or memory-mapped file), without the header
+     */
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer patterns;
+
+    /**
+     * Constructor
+     *
+     * @param guessCount  the number of guesses
+     * @param answerCount the number of answers
+     * @param patterns    the patterns
+     */
+    private FeedbackMatrix(int guessCount, int answerCount, ByteBuffer patterns) {
+        this.guessCount = guessCount;
+        this.answerCount = answerCount;
+        this.patterns = patterns;
+    }
+
+    /**
+     * Compute the matrix in memory
+     *
+     * @param guesses the allowed guesses
+     * @param answers the possible answers
+     * @return the matrix
+     */
+    public static FeedbackMatrix compute(List<String> guesses, List<String> answers) {
+        long[] guessWords = pack(guesses);
+        long[] answerWords = pack(answers);
+        ByteBuffer patterns = ByteBuffer.wrap(new byte[cellCount(guessWords.length, answerWords.length)]);
+
+        fill(patterns, guessWords, answerWords);
+        return new FeedbackMatrix(guessWords.length, answerWords.length, patterns);
+    }
+
+    /**
+     * Compute the matrix directly into a memory-mapped file (the file is created or replaced)
+     *
+     * @param guesses the allowed guesses
+     * @param answers the possible answers
+     * @param file    the matrix file
+     * @return the matrix (backed by the file)
+     * @throws IOException if the file can't be written
+     */
+    public static FeedbackMatrix compute(List<String> guesses, List<String> answers, Path file) throws IOException {
+        long[] guessWords = pack(guesses);
+        long[] answerWords = pack(answers);
+        int cells = cellCount(guessWords.length, answerWords.length);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) cells);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(guessWords.length).putInt(answerWords.length);
+
+            ByteBuffer patterns = buffer.slice(HEADER_SIZE, cells);
+            fill(patterns, guessWords, answerWords);
+            buffer.force();
+
+            return new FeedbackMatrix(guessWords.length, answerWords.length, patterns);
+        }
+    }
+
+    /**
+     * Open a matrix file previously computed (memory-mapped, read only)
+     *
+     * @param file the matrix file
+     * @return the matrix (backed by the file)
+     * @throws IOException if the file can't be read or is not a matrix file
+     */
+    public static FeedbackMatrix open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a feedback matrix file: " + file);
+            }
+
+            int guessCount = buffer.getInt();
+            int answerCount = buffer.getInt();
+            int cells = cellCount(guessCount, answerCount);
+            if (buffer.remaining() != cells) {
+                throw new IOException("Truncated feedback matrix file: " + file);
+            }
+
+            return new FeedbackMatrix(guessCount, answerCount, buffer.slice(HEADER_SIZE, cells));
+        }
+    }
+
+    /**
+     * Get the pattern of a guess against an answer
+     *
+     * @param guessIndex  the index of the guess
+     * @param answerIndex the index of the answer
+     * @return the pattern (0 - 242)
+     */
+    public int get(int guessIndex, int answerIndex) {
+        return patterns.get(guessIndex * answerCount + answerIndex) & 0xFF;
+    }
+
+    /**
+     * Fill the patterns in parallel (one task per guess row)
+     * The letters of each answer are counted once for all the rows (see GameLogic.lowCounts)
+     *
+     * @param patterns the patterns to fill
+     * @param guesses  the packed guesses
+     * @param answers  the packed answers
+     */
+    private static void fill(ByteBuffer patterns, long[] guesses, long[] answers) {
+        int length = WordUtils.WORD_LENGTH;
+        long[] lowCounts = new long[answers.length];
+        long[] highCounts = new long[answers.length];
+        for (int answerIndex = 0; answerIndex < answers.length; answerIndex++) {
+            lowCounts[answerIndex] = GameLogic.lowCounts(answers[answerIndex], length);
+            highCounts[answerIndex] = GameLogic.highCounts(answers[answerIndex], length);
+        }
+
+        IntStream.range(0, guesses.length).parallel().forEach(guessIndex -> {
+            long guess = guesses[guessIndex];
+            int offset = guessIndex * answers.length;
+            for (int answerIndex = 0; answerIndex < answers.length; answerIndex++) {
+                int pattern = GameLogic.score(guess, answers[answerIndex], lowCounts[answerIndex], highCounts[answerIndex], length);
+                patterns.put(offset + answerIndex, (byte) pattern);
+            }
+        });
+    }
+
+    /**
+     * Check and pack the words (ASCII letters of the game length, checked without the dictionary)
+     *
+     * @param words the words
+     * @return the packed words (see WordCodec)
+     */
+    private static long[] pack(List<String> words) {
+        long[] packed = new long[words.size()];
+        for (int i = 0; i < packed.length; i++) {
+            String word = words.get(i);
+            packed[i] = word != null && word.length() == WordUtils.WORD_LENGTH ? WordCodec.pack(word) : WordCodec.INVALID;
+            if (packed[i] == WordCodec.INVALID) {
+                throw new IllegalArgumentException("Invalid word: " + word);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Get the number of cells of a matrix
+     *
+     * @param guessCount  the number of guesses
+     * @param answerCount the number of answers
+     * @return the number of cells
+     */
+    private static int cellCount(int guessCount, int answerCount) {
+        long cells = (long) guessCount * answerCount;
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Feedback matrix too large: " + guessCount + "x" + answerCount);
+        }
+        return (int) cells;
+    }
+}
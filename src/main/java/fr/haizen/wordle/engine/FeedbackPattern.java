@@ -0,0 +1,123 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.objects.LetterFeedback;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class encodes the feedback of a guess as a base-3 number (one digit per letter)
+ * INCORRECT = 0, WRONG_POSITION = 1, CORRECT = 2, the first letter is the lowest digit
+ */
+public final class FeedbackPattern {
+
+    /**
+     * The number of patterns for a 5-letter word (3^5)
+     */
+    public static final int PATTERN_COUNT = 243;
+
+    /**
+     * The pattern of a 5-letter word found (all letters green)
+     */
+    public static final int ALL_CORRECT = PATTERN_COUNT - 1;
+
+    /**
+     * The feedback of each digit (indexed by the digit value)
+     */
+    private static final LetterFeedback[] DIGITS = {
+            LetterFeedback.INCORRECT,
+            LetterFeedback.WRONG_POSITION,
+            LetterFeedback.CORRECT
+    };
+
+    /**
+     * Powers of 3, the weight of each letter position
+     */
+    private static final int[] POWERS = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+
+    private FeedbackPattern() {
+    }
+
+    /**
+     * Get the number of patterns of a word (3^length)
+     *
+     * @param length the length of the word (up to 8)
+     * @return the number of patterns
+     */
+    public static int patternCount(int length) {
+        return POWERS[length];
+    }
+
+    /**
+     * Get the pattern of a word found (all letters green)
+     *
+     * @param length the length of the word (up to 8)
+     * @return the pattern
+     */
+    public static int allCorrect(int length) {
+        return POWERS[length] - 1;
+    }
+
+    /**
+     * Get the digit value of a feedback
+     *
+     * @param feedback the feedback of a letter
+     * @return the digit (0, 1 or 2)
+     */
+    public static int digitOf(LetterFeedback feedback) {
+        return switch (feedback) {
+            case INCORRECT -> 0;
+            case WRONG_POSITION -> 1;
+            case CORRECT -> 2;
+        };
+    }
+
+    /**
+     * Get the weight of a letter position in a pattern (3^position)
+     *
+     * @param position the letter position
+     * @return the weight
+     */
+    public static int weight(int position) {
+        return POWERS[position];
+    }
+
+    /**
+     * Encode a feedback as a pattern
+     *
+     * @param feedback the feedback (one per letter)
+     * @return the pattern
+     */
+    public static int encode(LetterFeedback[] feedback) {
+        int pattern = 0;
+        for (int i = feedback.length - 1; i >= 0; i--) {
+            pattern = pattern * 3 + digitOf(feedback[i]);
+        }
+        return pattern;
+    }
+
+    /**
+     * Decode a pattern to a feedback
+     *
+     * @param pattern the pattern
+     * @param length  the length of the word
+     * @return the feedback (one per letter)
+     */
+    public static LetterFeedback[] decode(int pattern, int length) {
+        LetterFeedback[] feedback = new LetterFeedback[length];
+        for (int i = 0; i < length; i++) {
+            feedback[i] = DIGITS[pattern % 3];
+            pattern /= 3;
+        }
+        return feedback;
+    }
+
+    /**
+     * Get the feedback of a single letter in a pattern
+     *
+     * @param pattern  the pattern
+     * @param position the letter position
+     * @return the feedback of the letter
+     */
+    public static LetterFeedback feedbackAt(int pattern, int position) {
+        return DIGITS[(pattern / POWERS[position]) % 3];
+    }
+}
@@ -0,0 +1,137 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.utils.WordCodec;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class keeps the hints revealed in a hard mode game, updated once per guess (not thread safe)
+ * - the green letters (a packed word, 0 for a free position, see WordCodec)
+ * - the minimum count of each letter found (4 bits per letter in two longs, like GameLogic.score)
+ * - the letters not in the word (one bit per letter)
+ * A guess is checked against them in constant time and without allocation, the previous results are not read again
+ */
+public final class HardModeConstraints {
+
+    /**
+     * The letter required at each position (packed word, 0 for a free position)
+     */
+    private long requiredLetters;
+
+    /**
+     * The minimum count of the letters 1 to 16 (4 bits per letter)
+     */
+    private long lowMinCounts;
+
+    /**
+     * The minimum count of the letters 17 to 26 (4 bits per letter)
+     */
+    private long highMinCounts;
+
+    /**
+     * The letters not in the word (bit letter - 1)
+     */
+    private int bannedLetters;
+
+    /**
+     * Check if a guess uses the revealed hints: the green letters at their position,
+     * the found letters at least as many times, and no letter known to be absent
+     *
+     * @param guess  the packed guess (ASCII letters)
+     * @param length the length of the guess
+     * @return true if the guess is allowed
+     */
+    public boolean allows(long guess, int length) {
+        long lowCounts = 0;
+        long highCounts = 0;
+
+        for (int i = 0; i < length; i++) {
+            int letter = WordCodec.letterAt(guess, i);
+            int required = WordCodec.letterAt(requiredLetters, i);
+            if ((required != 0 && required != letter) || (bannedLetters & (1 << (letter - 1))) != 0) return false;
+
+            int shift = (letter - 1) << 2;
+            if (shift < 64) lowCounts += 1L << shift;
+            else highCounts += 1L << (shift - 64);
+        }
+
+        return hasMinCounts(lowCounts, lowMinCounts) && hasMinCounts(highCounts, highMinCounts);
+    }
+
+    /**
+     * Add the hints revealed by a scored guess
+     *
+     * @param guess   the packed guess (ASCII letters)
+     * @param pattern the feedback of the guess (see FeedbackPattern)
+     * @param length  the length of the guess
+     */
+    public void apply(long guess, int pattern, int length) {
+        long lowFound = 0;
+        long highFound = 0;
+        int grayLetters = 0;
+
+        /*
+         * Greens are required at their position, greens and yellows are counted, grays are kept aside
+         */
+        for (int i = 0; i < length; i++, pattern /= 3) {
+            int letter = WordCodec.letterAt(guess, i);
+            int digit = pattern % 3;
+            if (digit == 0) {
+                grayLetters |= 1 << (letter - 1);
+                continue;
+            }
+
+            if (digit == 2) requiredLetters |= (long) letter << (i * WordCodec.BITS_PER_LETTER);
+            int shift = (letter - 1) << 2;
+            if (shift < 64) lowFound += 1L << shift;
+            else highFound += 1L << (shift - 64);
+        }
+
+        lowMinCounts = max(lowMinCounts, lowFound);
+        highMinCounts = max(highMinCounts, highFound);
+
+        /*
+         * A gray letter is absent only if it was never found (a gray duplicate only caps the count)
+         */
+        while (grayLetters != 0) {
+            int letter = Integer.numberOfTrailingZeros(grayLetters) + 1;
+            grayLetters &= grayLetters - 1;
+
+            int shift = (letter - 1) << 2;
+            long minCount = shift < 64 ? (lowMinCounts >>> shift) & 0xF : (highMinCounts >>> (shift - 64)) & 0xF;
+            if (minCount == 0) bannedLetters |= 1 << (letter - 1);
+        }
+    }
+
+    /**
+     * Check that every letter count reaches its minimum
+     *
+     * @param counts    the counts (4 bits per letter)
+     * @param minCounts the minimum counts (4 bits per letter)
+     * @return true if every count reaches its minimum
+     */
+    private static boolean hasMinCounts(long counts, long minCounts) {
+        for (long remaining = minCounts; remaining != 0; ) {
+            int shift = Long.numberOfTrailingZeros(remaining) & ~3;
+            if (((counts >>> shift) & 0xF) < ((minCounts >>> shift) & 0xF)) return false;
+            remaining &= ~(0xFL << shift);
+        }
+        return true;
+    }
+
+    /**
+     * Get the maximum of each 4 bits count
+     *
+     * @param first  the first counts
+     * @param second the second counts
+     * @return the maximum counts
+     */
+    private static long max(long first, long second) {
+        for (long remaining = second; remaining != 0; ) {
+            int shift = Long.numberOfTrailingZeros(remaining) & ~3;
+            long count = (second >>> shift) & 0xF;
+            if (count > ((first >>> shift) & 0xF)) first = (first & ~(0xFL << shift)) | (count << shift);
+            remaining &= ~(0xFL << shift);
+        }
+        return first;
+    }
+}
@@ -0,0 +1,61 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.objects.Word;
+import lombok.Getter;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is a word to guess prepared once for many players (immutable, shared between threads)
+ * - the packed letters (see WordCodec)
+ * - the count of each letter of the word (4 bits per letter in two longs, see GameLogic.lowCounts)
+ * A guess is then scored by GameLogic.score with the counts of the word, instead of counting its letters again
+ */
+@Getter
+public final class PreparedTarget {
+
+    /**
+     * The word to guess
+     */
+    private final Word word;
+
+    /**
+     * The count of the letters 1 to 16 (4 bits per letter)
+     */
+    private final long lowCounts;
+
+    /**
+     * The count of the letters 17 to 26 (4 bits per letter)
+     */
+    private final long highCounts;
+
+    /**
+     * Constructor
+     *
+     * @param word the word to guess
+     */
+    public PreparedTarget(Word word) {
+        this.word = word;
+        this.lowCounts = GameLogic.lowCounts(word.packed(), word.length());
+        this.highCounts = GameLogic.highCounts(word.packed(), word.length());
+    }
+
+    /**
+     * Get the number of letters
+     *
+     * @return the length
+     */
+    public int length() {
+        return word.length();
+    }
+
+    /**
+     * Score a packed guess of the same length (see GameLogic.score), without allocation
+     *
+     * @param guess the packed guess
+     * @return the packed feedback (see FeedbackPattern)
+     */
+    public int score(long guess) {
+        return GameLogic.score(guess, word.packed(), lowCounts, highCounts, word.length());
+    }
+}
@@ -0,0 +1,30 @@
+package fr.haizen.wordle.engine;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.utils.WordUtils;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The scalar scoring backend: one pair at a time with the game rules (GameLogic.score)
+ */
+final class ScalarScoringBackend extends ScoringBackend {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void score(int[] guesses, int[] answers, byte[] output, int from, int to) {
+        for (int i = from; i < to; i++) {
+            output[i] = (byte) GameLogic.score(guesses[i], answers[i], WordUtils.WORD_LENGTH);
+        }
+    }
+
+    @Override
+    public void scoreGuesses(int answer, int[] guesses, byte[] output, int from, int to) {
+        for (int i = from; i < to; i++) {
+            output[i] = (byte) GameLogic.score(guesses[i], answer, WordUtils.WORD_LENGTH);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package fr.haizen.wordle.engine;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines a backend scoring packed 5-letter words in bulk (see WordCodec, one int per word)
+ * The best backend is picked once: the vector one (jdk.incubator.vector, SIMD) when the module is present,
+ * else the scalar one (GameLogic.score). -Dwordle.vector=false forces the scalar backend
+ */
+public abstract class ScoringBackend {
+
+    /**
+     * The name of the Vector API module
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * The scalar backend
+     */
+    private static final ScoringBackend SCALAR = new ScalarScoringBackend();
+
+    /**
+     * The best backend available
+     */
+    private static final ScoringBackend BEST = load();
+
+    /**
+     * Get the scalar backend (always available)
+     *
+     * @return the backend
+     */
+    public static ScoringBackend scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Get the best backend available
+     *
+     * @return the backend
+     */
+    public static ScoringBackend best() {
+        return BEST;
+    }
+
+    /**
+     * Get the name of the backend
+     *
+     * @return the name (scalar, vector)
+     */
+    public abstract String getName();
+
+    /**
+     * Score the pairs (guesses[i], answers[i]) of a range into output[i]
+     *
+     * @param guesses the packed guesses
+     * @param answers the packed answers
+     * @param output  the patterns (one byte per pair)
+     * @param from    the first pair (inclusive)
+     * @param to      the last pair (exclusive)
+     */
+    public abstract void score(int[] guesses, int[] answers, byte[] output, int from, int to);
+
+    /**
+     * Score the guesses of a range against a single answer into output[i]
+     *
+     * @param answer  the packed answer
+     * @param guesses the packed guesses
+     * @param output  the patterns (one byte per guess)
+     * @param from    the first guess (inclusive)
+     * @param to      the last guess (exclusive)
+     */
+    public abstract void scoreGuesses(int answer, int[] guesses, byte[] output, int from, int to);
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    /**
+     * Load the best backend (the vector one is loaded by name, its class can't be linked without the module)
+     *
+     * @return the backend
+     */
+    private static ScoringBackend load() {
+        if (!Boolean.parseBoolean(System.getProperty("wordle.vector", "true"))) return SCALAR;
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) return SCALAR;
+
+        try {
+            return (ScoringBackend) Class.forName(ScoringBackend.class.getPackageName() + ".VectorScoringBackend")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return SCALAR;
+        }
+    }
+}
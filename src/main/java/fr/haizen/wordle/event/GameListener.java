@@ -0,0 +1,37 @@
+package fr.haizen.wordle.event;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.objects.GuessResult;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Listener of the events of a game (see GameLogic.addListener)
+ * The events are fired on the thread playing the game, a game without listener pays nothing
+ */
+public interface GameListener {
+
+    /**
+     * Called when a valid guess is scored (before gameWon for the winning guess)
+     *
+     * @param game   the game
+     * @param result the result of the guess
+     */
+    default void guessScored(GameLogic game, GuessResult result) {
+    }
+
+    /**
+     * Called when the word is found
+     *
+     * @param game the game
+     */
+    default void gameWon(GameLogic game) {
+    }
+
+    /**
+     * Called when the last attempt is used without finding the word
+     *
+     * @param game the game
+     */
+    default void gameLost(GameLogic game) {
+    }
+}
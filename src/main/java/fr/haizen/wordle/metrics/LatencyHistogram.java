@@ -0,0 +1,143 @@
+package fr.haizen.wordle.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class counts latencies in log-linear buckets (HDR style): each power of two is split in 16 buckets,
+ * so a percentile is within 1/16 of the real value, for any latency from 1 ns
+ * Recording is lock-free and doesn't allocate (a bucket is an atomic counter)
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of bits of the buckets in a power of two (16 buckets)
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of buckets in a power of two
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of buckets (every positive long)
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The number of values in each bucket
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * The number of values, and their sum
+     */
+    private final LongAdder count = new LongAdder(), sum = new LongAdder();
+
+    /**
+     * The highest value
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param nanos the latency (negative values are counted as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the number of values
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the highest value
+     *
+     * @return the highest value (0 if there is none)
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the mean of the values
+     *
+     * @return the mean (0 if there is none)
+     */
+    public double getMean() {
+        long values = count.sum();
+        return values == 0 ? 0 : (double) sum.sum() / values;
+    }
+
+    /**
+     * Get a percentile of the values (the highest value of its bucket, at most the highest value)
+     *
+     * @param percentile the percentile (between 0 and 100)
+     * @return the value (0 if there is none)
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+
+        /*
+         * The rank of the value in the sorted values (1-based), then the bucket holding it
+         */
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Get the bucket of a value
+     *
+     * @param value the value (positive)
+     * @return the index of the bucket
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        /*
+         * The power of two of the value, then its 4 bits under the highest one
+         */
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the highest value of a bucket
+     *
+     * @param bucket the index of the bucket
+     * @return the value
+     */
+    static long highestOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
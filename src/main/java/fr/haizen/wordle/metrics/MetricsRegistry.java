@@ -0,0 +1,263 @@
+package fr.haizen.wordle.metrics;
+
+import lombok.Getter;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class holds the metrics of the game paths: counters (guesses, invalid guesses, wins, losses, listener failures)
+ * and latency histograms (GameLogic.checkGuess, WordUtils.isValidWord)
+ *
+ * The game code records into the installed registry (see current), the default one is NOOP:
+ * it doesn't read the clock and every record is an empty method, so the metrics cost nothing until they are installed
+ *
+ * The counters are exact, the latencies are sampled (one call in SAMPLE_RATE is timed): reading the clock twice
+ * costs more than a word validation
+ */
+public class MetricsRegistry implements MetricsRegistryMXBean {
+
+    /**
+     * The registry recording nothing (installed by default)
+     */
+    public static final MetricsRegistry NOOP = new MetricsRegistry(false);
+
+    /**
+     * The name of the MBean
+     */
+    public static final String OBJECT_NAME = "fr.haizen.wordle:type=Metrics";
+
+    /**
+     * The number of calls for one timed call (power of two)
+     */
+    public static final int SAMPLE_RATE = 16;
+
+    /**
+     * The installed registry
+     */
+    private static volatile MetricsRegistry current = NOOP;
+
+    /**
+     * If the metrics are recorded
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * The counters
+     */
+    private final LongAdder guesses = new LongAdder(), invalidGuesses = new LongAdder(),
+            wins = new LongAdder(), losses = new LongAdder(), validations = new LongAdder(), listenerFailures = new LongAdder();
+
+    /**
+     * The latency of a scored guess (GameLogic.checkGuess, sampled)
+     */
+    @Getter
+    private final LatencyHistogram checkGuessLatency = new LatencyHistogram();
+
+    /**
+     * The latency of a word validation (WordUtils.isValidWord, sampled)
+     */
+    @Getter
+    private final LatencyHistogram validationLatency = new LatencyHistogram();
+
+    /**
+     * Constructor (a recording registry)
+     */
+    public MetricsRegistry() {
+        this(true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param enabled if the metrics are recorded
+     */
+    private MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the installed registry
+     *
+     * @return the registry (NOOP if none was installed)
+     */
+    public static MetricsRegistry current() {
+        return current;
+    }
+
+    /**
+     * Install a registry, the game code records into it from now on
+     *
+     * @param registry the registry (NOOP to stop recording)
+     */
+    public static void install(MetricsRegistry registry) {
+        current = registry;
+    }
+
+    /**
+     * Start a timer (one call in SAMPLE_RATE reads the clock)
+     *
+     * @return the start time (System.nanoTime), 0 if the call is not timed
+     */
+    public long startTimer() {
+        if (!enabled || (ThreadLocalRandom.current().nextInt() & (SAMPLE_RATE - 1)) != 0) return 0;
+        return System.nanoTime() | 1;
+    }
+
+    /**
+     * Record a scored guess
+     *
+     * @param start the start time of the check (see startTimer)
+     */
+    public void guessScored(long start) {
+        if (!enabled) return;
+        guesses.increment();
+        if (start != 0) checkGuessLatency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Record a rejected guess (invalid word, hints not used in hard mode)
+     */
+    public void guessRejected() {
+        if (enabled) invalidGuesses.increment();
+    }
+
+    /**
+     * Record a word validation
+     *
+     * @param start the start time of the validation (see startTimer)
+     */
+    public void wordValidated(long start) {
+        if (!enabled) return;
+        validations.increment();
+        if (start != 0) validationLatency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Record a game won
+     */
+    public void gameWon() {
+        if (enabled) wins.increment();
+    }
+
+    /**
+     * Record a game lost
+     */
+    public void gameLost() {
+        if (enabled) losses.increment();
+    }
+
+    /**
+     * Record a listener which threw an exception (the delivery to the other listeners goes on)
+     */
+    public void listenerFailed() {
+        if (enabled) listenerFailures.increment();
+    }
+
+    /**
+     * Register this registry in the platform MBean server (replacing the previous one)
+     *
+     * @return the name of the MBean
+     * @throws JMException if the MBean can't be registered
+     */
+    public ObjectName registerMBean() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) server.unregisterMBean(name);
+        server.registerMBean(this, name);
+        return name;
+    }
+
+    @Override
+    public long getGuesses() {
+        return guesses.sum();
+    }
+
+    @Override
+    public long getInvalidGuesses() {
+        return invalidGuesses.sum();
+    }
+
+    @Override
+    public long getWins() {
+        return wins.sum();
+    }
+
+    @Override
+    public long getLosses() {
+        return losses.sum();
+    }
+
+    @Override
+    public long getValidations() {
+        return validations.sum();
+    }
+
+    @Override
+    public long getListenerFailures() {
+        return listenerFailures.sum();
+    }
+
+    @Override
+    public long getCheckGuessP50() {
+        return checkGuessLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getCheckGuessP99() {
+        return checkGuessLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getCheckGuessMax() {
+        return checkGuessLatency.getMax();
+    }
+
+    @Override
+    public long getValidationP50() {
+        return validationLatency.getPercentile(50);
+    }
+
+    @Override
+    public long getValidationP99() {
+        return validationLatency.getPercentile(99);
+    }
+
+    @Override
+    public long getValidationMax() {
+        return validationLatency.getMax();
+    }
+
+    /**
+     * Get a text dump of the metrics (one line per metric)
+     *
+     * @return the dump
+     */
+    public String dump() {
+        return new StringBuilder(256)
+                .append(String.format("guesses=%d invalid_guesses=%d wins=%d losses=%d validations=%d listener_failures=%d%n",
+                        getGuesses(), getInvalidGuesses(), getWins(), getLosses(), getValidations(), getListenerFailures()))
+                .append(format("check_guess", checkGuessLatency))
+                .append(format("is_valid_word", validationLatency))
+                .toString();
+    }
+
+    /**
+     * Format the line of a histogram
+     *
+     * @param name      the name of the metric
+     * @param histogram the histogram
+     * @return the line
+     */
+    private static String format(String name, LatencyHistogram histogram) {
+        return String.format("%s_ns count=%d mean=%.1f p50=%d p99=%d p999=%d max=%d%n", name, histogram.getCount(),
+                histogram.getMean(), histogram.getPercentile(50), histogram.getPercentile(99),
+                histogram.getPercentile(99.9), histogram.getMax());
+    }
+}
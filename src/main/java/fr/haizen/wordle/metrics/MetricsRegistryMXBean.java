@@ -0,0 +1,34 @@
+package fr.haizen.wordle.metrics;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The JMX view of the metrics (see MetricsRegistry.registerMBean), the latencies are in nanoseconds
+ */
+public interface MetricsRegistryMXBean {
+
+    boolean isEnabled();
+
+    long getGuesses();
+
+    long getInvalidGuesses();
+
+    long getWins();
+
+    long getLosses();
+
+    long getValidations();
+
+    long getListenerFailures();
+
+    long getCheckGuessP50();
+
+    long getCheckGuessP99();
+
+    long getCheckGuessMax();
+
+    long getValidationP50();
+
+    long getValidationP99();
+
+    long getValidationMax();
+}
@@ -0,0 +1,44 @@
+package fr.haizen.wordle.metrics;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class prints the text dump of a registry periodically (on a daemon thread), until it is closed
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    /**
+     * The thread printing the dumps
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor, the first dump is printed after a period
+     *
+     * @param registry the registry
+     * @param out      the output
+     * @param period   the time between two dumps
+     */
+    public MetricsReporter(MetricsRegistry registry, PrintStream out, Duration period) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long nanos = period.toNanos();
+        scheduler.scheduleAtFixedRate(() -> out.print("# " + Instant.now() + System.lineSeparator() + registry.dump()),
+                nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
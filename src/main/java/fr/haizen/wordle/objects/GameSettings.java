@@ -0,0 +1,78 @@
+package fr.haizen.wordle.objects;
+
+import fr.haizen.wordle.utils.WordUtils;
+import lombok.Getter;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The settings of a game: the length of the words (4 to 8 letters), the number of attempts and the hard mode
+ * A word of 8 letters or less is packed in a single long (see WordCodec) and its pattern fits in an int (3^8)
+ */
+@Getter
+public class GameSettings {
+
+    /**
+     * The minimum length of the words
+     */
+    public static final int MIN_WORD_LENGTH = 4;
+
+    /**
+     * The maximum length of the words
+     */
+    public static final int MAX_WORD_LENGTH = 8;
+
+    /**
+     * The maximum number of attempts (a game state keeps the attempts in 4 bits)
+     */
+    public static final int MAX_ATTEMPTS = 15;
+
+    /**
+     * The classic settings: 5 letters, 6 attempts
+     */
+    public static final GameSettings DEFAULT = new GameSettings(WordUtils.WORD_LENGTH, WordUtils.MAX_ATTEMPTS);
+
+    /**
+     * The length of the words
+     */
+    private final int wordLength;
+
+    /**
+     * The number of attempts
+     */
+    private final int maxAttempts;
+
+    /**
+     * If the revealed hints must be used in the next guesses (hard mode)
+     */
+    private final boolean hardMode;
+
+    /**
+     * Constructor (normal mode)
+     *
+     * @param wordLength  the length of the words (4 to 8)
+     * @param maxAttempts the number of attempts (1 to 15)
+     */
+    public GameSettings(int wordLength, int maxAttempts) {
+        this(wordLength, maxAttempts, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param wordLength  the length of the words (4 to 8)
+     * @param maxAttempts the number of attempts (1 to 15)
+     * @param hardMode    if the revealed hints must be used in the next guesses
+     */
+    public GameSettings(int wordLength, int maxAttempts, boolean hardMode) {
+        if (wordLength < MIN_WORD_LENGTH || wordLength > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("The word length must be between " + MIN_WORD_LENGTH + " and " + MAX_WORD_LENGTH);
+        }
+        if (maxAttempts < 1 || maxAttempts > MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("The attempts must be between 1 and " + MAX_ATTEMPTS);
+        }
+
+        this.wordLength = wordLength;
+        this.maxAttempts = maxAttempts;
+        this.hardMode = hardMode;
+    }
+}
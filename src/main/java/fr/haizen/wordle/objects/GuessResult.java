@@ -1,5 +1,6 @@
 package fr.haizen.wordle.objects;
 
+import fr.haizen.wordle.engine.FeedbackPattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,13 +8,27 @@ import lombok.Getter;
 @AllArgsConstructor
 public class GuessResult {
 
+    /**
+     * The guess (as submitted)
+     */
+    private final String guess;
+
     /**
      * If the guess is correct
      */
     private final boolean correct;
 
     /**
-     * The feedback of the guess (LetterFeedback[], colors for each letter)
+     * The packed feedback of the guess (see FeedbackPattern)
+     */
+    private final int pattern;
+
+    /**
+     * Get the feedback of the guess (a new array on each call, the result stays immutable)
+     *
+     * @return the feedback (LetterFeedback[], colors for each letter)
      */
-    private final LetterFeedback[] feedback;
-}
\ No newline at end of file
+    public LetterFeedback[] getFeedback() {
+        return FeedbackPattern.decode(pattern, guess.length());
+    }
+}
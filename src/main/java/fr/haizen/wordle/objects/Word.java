@@ -0,0 +1,112 @@
+package fr.haizen.wordle.objects;
+
+import fr.haizen.wordle.utils.WordCodec;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines a word of the game (immutable): its ASCII letters packed in a long (5 bits per letter, see WordCodec)
+ * The case is normalised once, when the word is created, the letters are then compared as codes
+ */
+@EqualsAndHashCode
+public final class Word {
+
+    /**
+     * The packed letters
+     */
+    private final long packed;
+
+    /**
+     * The number of letters
+     */
+    private final int length;
+
+    /**
+     * Constructor
+     *
+     * @param packed the packed letters
+     * @param length the number of letters
+     */
+    private Word(long packed, int length) {
+        this.packed = packed;
+        this.length = length;
+    }
+
+    /**
+     * Create a word (case insensitive)
+     *
+     * @param word the letters (ASCII)
+     * @return the word
+     * @throws IllegalArgumentException if the word is empty, too long or has a character that is not an ASCII letter
+     */
+    public static Word of(CharSequence word) {
+        long packed = word == null || word.length() == 0 ? WordCodec.INVALID : WordCodec.pack(word);
+        if (packed == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Invalid word: " + word);
+        }
+        return new Word(packed, word.length());
+    }
+
+    /**
+     * Create a word from its packed letters
+     *
+     * @param packed the packed letters (see WordCodec)
+     * @param length the number of letters
+     * @return the word
+     */
+    public static Word ofPacked(long packed, int length) {
+        if (length < 1 || length > WordCodec.MAX_LENGTH || packed == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Invalid packed word of length " + length);
+        }
+        return new Word(packed, length);
+    }
+
+    /**
+     * Get the packed letters (see WordCodec)
+     *
+     * @return the packed letters
+     */
+    public long packed() {
+        return packed;
+    }
+
+    /**
+     * Get the number of letters
+     *
+     * @return the length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Get the code of a letter
+     *
+     * @param position the letter position
+     * @return the code (1 - 26)
+     */
+    public int letterAt(int position) {
+        return WordCodec.letterAt(packed, position);
+    }
+
+    /**
+     * Get the word in upper case (display)
+     *
+     * @return the word
+     */
+    public String toUpperCase() {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) letters[i] = (char) ('A' - 1 + letterAt(i));
+        return new String(letters);
+    }
+
+    /**
+     * Get the word in lower case
+     *
+     * @return the word
+     */
+    @Override
+    public String toString() {
+        return WordCodec.unpack(packed, length);
+    }
+}
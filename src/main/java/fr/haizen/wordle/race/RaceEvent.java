@@ -0,0 +1,64 @@
+package fr.haizen.wordle.race;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.LetterFeedback;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is the progress of a player broadcast to a race room: the colors of a guess, never its letters
+ */
+@Getter
+@AllArgsConstructor
+public class RaceEvent {
+
+    /**
+     * The id of the player in the room
+     */
+    private final int playerId;
+
+    /**
+     * The name of the player
+     */
+    private final String playerName;
+
+    /**
+     * The number of the guess (1 for the first one)
+     */
+    private final int attempt;
+
+    /**
+     * The packed feedback of the guess (see FeedbackPattern)
+     */
+    private final int pattern;
+
+    /**
+     * The length of the guess
+     */
+    private final int wordLength;
+
+    /**
+     * If the guess is correct
+     */
+    private final boolean correct;
+
+    /**
+     * The finishing position of the player if the guess is correct (1 for the first one), 0 otherwise
+     */
+    private final int rank;
+
+    /**
+     * The remaining attempts of the player after the guess
+     */
+    private final int remainingAttempts;
+
+    /**
+     * Get the feedback of the guess (a new array on each call, the event stays immutable)
+     *
+     * @return the feedback (LetterFeedback[], colors for each letter)
+     */
+    public LetterFeedback[] getFeedback() {
+        return FeedbackPattern.decode(pattern, wordLength);
+    }
+}
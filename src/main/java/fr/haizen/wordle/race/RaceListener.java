@@ -0,0 +1,20 @@
+package fr.haizen.wordle.race;
+
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * Subscriber of the events of a race room (see RaceRoom.subscribe)
+ * The events are delivered by batches on a dispatcher thread, in the order they were published,
+ * a room is never delivered by two threads at once
+ */
+public interface RaceListener {
+
+    /**
+     * Called with the next events of a room
+     *
+     * @param room   the room
+     * @param events the events (read-only, in order)
+     */
+    void eventsPublished(RaceRoom room, List<RaceEvent> events);
+}
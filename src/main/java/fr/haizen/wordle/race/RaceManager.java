@@ -0,0 +1,150 @@
+package fr.haizen.wordle.race;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.PreparedTarget;
+import fr.haizen.wordle.objects.Word;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class hosts many race rooms at once (thread safe), each room is identified by a random id
+ * The events of every room are delivered by a shared pool of dispatcher threads (see RaceRoom)
+ */
+public class RaceManager implements AutoCloseable {
+
+    /**
+     * The default max number of players of a room
+     */
+    public static final int DEFAULT_MAX_PLAYERS = 256;
+
+    /**
+     * The possible answers
+     */
+    private final WordList answers;
+
+    /**
+     * The max number of players of a room
+     */
+    private final int maxPlayers;
+
+    /**
+     * The rooms by id
+     */
+    private final ConcurrentHashMap<Long, RaceRoom> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * The executor delivering the events of the rooms
+     */
+    private final ExecutorService dispatcher;
+
+    /**
+     * Constructor (default max players)
+     *
+     * @param answers the possible answers
+     */
+    public RaceManager(WordList answers) {
+        this(answers, DEFAULT_MAX_PLAYERS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param answers           the possible answers
+     * @param maxPlayers        the max number of players of a room
+     * @param dispatcherThreads the number of threads delivering the events
+     */
+    public RaceManager(WordList answers, int maxPlayers, int dispatcherThreads) {
+        if (answers.size() == 0) {
+            throw new IllegalArgumentException("No answer to play");
+        }
+
+        this.answers = answers;
+        this.maxPlayers = maxPlayers;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "wordle-race-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a room with a random word to guess
+     *
+     * @return the room
+     */
+    public RaceRoom create() {
+        return create(ThreadLocalRandom.current().nextInt(answers.size()));
+    }
+
+    /**
+     * Create a room
+     *
+     * @param targetIndex the index of the word to guess in the answers
+     * @return the room
+     */
+    public RaceRoom create(int targetIndex) {
+        if (targetIndex < 0 || targetIndex >= answers.size()) {
+            throw new IllegalArgumentException("Invalid target index: " + targetIndex);
+        }
+
+        /*
+         * The word is prepared once, for all the players of the room
+         */
+        PreparedTarget target = new PreparedTarget(Word.ofPacked(answers.packed(targetIndex), WordUtils.WORD_LENGTH));
+        while (true) {
+            long id = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+            RaceRoom room = new RaceRoom(id, target, WordUtils.MAX_ATTEMPTS, maxPlayers, dispatcher);
+            if (rooms.putIfAbsent(id, room) == null) return room;
+        }
+    }
+
+    /**
+     * Get a room
+     *
+     * @param roomId the id of the room
+     * @return the room
+     */
+    public RaceRoom room(long roomId) {
+        RaceRoom room = rooms.get(roomId);
+        if (room == null) {
+            throw new NoSuchElementException("Unknown room: " + roomId);
+        }
+        return room;
+    }
+
+    /**
+     * Remove a room (the events already published are still delivered)
+     *
+     * @param roomId the id of the room
+     * @return true if the room existed
+     */
+    public boolean remove(long roomId) {
+        return rooms.remove(roomId) != null;
+    }
+
+    /**
+     * Get the number of rooms
+     *
+     * @return the number of rooms
+     */
+    public int size() {
+        return rooms.size();
+    }
+
+    /**
+     * Stop delivering the events
+     */
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+}
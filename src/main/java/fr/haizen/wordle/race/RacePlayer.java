@@ -0,0 +1,48 @@
+package fr.haizen.wordle.race;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is the progress of a player in a race room
+ * The progress is only changed while holding the player lock (see RaceRoom.guess), so a guess is counted and
+ * published at once and the events of a player stay in order
+ */
+final class RacePlayer {
+
+    /**
+     * The id of the player in the room
+     */
+    final int id;
+
+    /**
+     * The name of the player
+     */
+    final String name;
+
+    /**
+     * The number of guesses
+     */
+    int guessCount;
+
+    /**
+     * The remaining attempts (0 when the game is over)
+     */
+    int remainingAttempts;
+
+    /**
+     * If the word was found
+     */
+    boolean won;
+
+    /**
+     * Constructor
+     *
+     * @param id          the id of the player in the room
+     * @param name        the name of the player
+     * @param maxAttempts the number of attempts
+     */
+    RacePlayer(int id, String name, int maxAttempts) {
+        this.id = id;
+        this.name = name;
+        this.remainingAttempts = maxAttempts;
+    }
+}
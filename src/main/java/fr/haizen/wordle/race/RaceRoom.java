@@ -0,0 +1,318 @@
+package fr.haizen.wordle.race;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.engine.PreparedTarget;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is a race room: players guess the same word, and each guess is broadcast to the subscribers (thread safe)
+ * The word is prepared once for the room (see PreparedTarget), so a guess is scored the same way for every player
+ *
+ * The events are queued without lock and delivered by batches on the dispatcher: a single task drains the room
+ * at a time and gives the thread back after each batch, so a busy room doesn't hold the dispatcher of the other rooms
+ */
+public class RaceRoom {
+
+    /**
+     * The max number of events delivered at once
+     */
+    static final int EVENTS_PER_BATCH = 256;
+
+    /**
+     * No listener (shared empty array)
+     */
+    private static final RaceListener[] NO_LISTENERS = new RaceListener[0];
+
+    /**
+     * The id of the room
+     */
+    @Getter
+    private final long id;
+
+    /**
+     * The word to guess
+     */
+    private final PreparedTarget target;
+
+    /**
+     * The number of attempts of a player
+     */
+    @Getter
+    private final int maxAttempts;
+
+    /**
+     * The players (by id, in join order)
+     */
+    private final AtomicReferenceArray<RacePlayer> players;
+
+    /**
+     * The number of players
+     */
+    private final AtomicInteger playerCount = new AtomicInteger();
+
+    /**
+     * The number of players who found the word
+     */
+    private final AtomicInteger winners = new AtomicInteger();
+
+    /**
+     * The events not delivered yet
+     */
+    private final ConcurrentLinkedQueue<RaceEvent> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * If a task is delivering the events of the room
+     */
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    /**
+     * The executor delivering the events
+     */
+    private final Executor dispatcher;
+
+    /**
+     * The subscribers (copied on change)
+     */
+    private volatile RaceListener[] listeners = NO_LISTENERS;
+
+    /**
+     * Constructor
+     *
+     * @param id          the id of the room
+     * @param target      the word to guess
+     * @param maxAttempts the number of attempts of a player
+     * @param maxPlayers  the max number of players
+     * @param dispatcher  the executor delivering the events
+     */
+    public RaceRoom(long id, PreparedTarget target, int maxAttempts, int maxPlayers, Executor dispatcher) {
+        if (maxAttempts < 1 || maxPlayers < 1) {
+            throw new IllegalArgumentException("The attempts and the players must be positive");
+        }
+
+        this.id = id;
+        this.target = target;
+        this.maxAttempts = maxAttempts;
+        this.players = new AtomicReferenceArray<>(maxPlayers);
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Join the room
+     *
+     * @param name the name of the player
+     * @return the id of the player in the room
+     * @throws IllegalStateException if the room is full
+     */
+    public int join(String name) {
+        int playerId;
+        do {
+            playerId = playerCount.get();
+            if (playerId == players.length()) {
+                throw new IllegalStateException("The room is full");
+            }
+        } while (!playerCount.compareAndSet(playerId, playerId + 1));
+
+        players.set(playerId, new RacePlayer(playerId, name, maxAttempts));
+        return playerId;
+    }
+
+    /**
+     * Play a guess (thread safe, a guess is counted and broadcast once)
+     *
+     * @param playerId the id of the player in the room
+     * @param word     the guess
+     * @return the result of the guess
+     */
+    public GuessResult guess(int playerId, String word) {
+        RacePlayer player = player(playerId);
+        MetricsRegistry metrics = MetricsRegistry.current();
+        long start = metrics.startTimer();
+
+        /*
+         * Check if the word is valid (full letter, in the dictionary...)
+         */
+        int length = target.length();
+        long packedGuess = word.length() == length ? WordCodec.pack(word) : WordCodec.INVALID;
+        if (!WordUtils.isValidWord(packedGuess, length)) {
+            metrics.guessRejected();
+            throw new IllegalArgumentException("Invalid guess");
+        }
+
+        /*
+         * Score the guess, then record and publish it under the player lock (the game may have ended in the meantime)
+         */
+        int pattern = target.score(packedGuess);
+        boolean won = pattern == FeedbackPattern.allCorrect(length);
+        int remainingAttempts;
+        synchronized (player) {
+            if (player.remainingAttempts <= 0) {
+                throw new IllegalStateException("The game is over");
+            }
+
+            player.guessCount++;
+            player.remainingAttempts = won ? 0 : player.remainingAttempts - 1;
+            player.won = won;
+            remainingAttempts = player.remainingAttempts;
+
+            int rank = won ? winners.incrementAndGet() : 0;
+            publish(new RaceEvent(player.id, player.name, player.guessCount, pattern, length, won, rank, remainingAttempts));
+        }
+
+        metrics.guessScored(start);
+        if (won) metrics.gameWon();
+        else if (remainingAttempts == 0) metrics.gameLost();
+
+        return new GuessResult(word, won, pattern);
+    }
+
+    /**
+     * Subscribe to the events of the room (the events published from now on)
+     *
+     * @param listener the listener
+     */
+    public synchronized void subscribe(RaceListener listener) {
+        RaceListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[copy.length - 1] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Unsubscribe from the events of the room
+     *
+     * @param listener the listener
+     * @return true if the listener was subscribed
+     */
+    public synchronized boolean unsubscribe(RaceListener listener) {
+        List<RaceListener> remaining = new ArrayList<>(Arrays.asList(listeners));
+        if (!remaining.remove(listener)) return false;
+        listeners = remaining.toArray(NO_LISTENERS);
+        return true;
+    }
+
+    /**
+     * Get the number of players
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return playerCount.get();
+    }
+
+    /**
+     * Get the number of players who found the word
+     *
+     * @return the number of winners
+     */
+    public int getWinnerCount() {
+        return winners.get();
+    }
+
+    /**
+     * Check if the game of a player is over (won or no remaining attempts)
+     *
+     * @param playerId the id of the player in the room
+     * @return true if the game is over
+     */
+    public boolean isGameOver(int playerId) {
+        RacePlayer player = player(playerId);
+        synchronized (player) {
+            return player.remainingAttempts <= 0;
+        }
+    }
+
+    /**
+     * Get the word to guess, only revealed when the game of the player is over
+     *
+     * @param playerId the id of the player in the room
+     * @return the word (upper case)
+     * @throws IllegalStateException if the game of the player is not over
+     */
+    public String getTargetWord(int playerId) {
+        if (!isGameOver(playerId)) {
+            throw new IllegalStateException("The game is not over");
+        }
+        return target.getWord().toUpperCase();
+    }
+
+    /**
+     * Get a player of the room
+     *
+     * @param playerId the id of the player in the room
+     * @return the player
+     */
+    private RacePlayer player(int playerId) {
+        RacePlayer player = playerId >= 0 && playerId < players.length() ? players.get(playerId) : null;
+        if (player == null) {
+            throw new NoSuchElementException("Unknown player: " + playerId);
+        }
+        return player;
+    }
+
+    /**
+     * Queue an event, and start delivering the events if no task does it
+     *
+     * @param event the event
+     */
+    private void publish(RaceEvent event) {
+        pending.offer(event);
+        if (dispatching.compareAndSet(false, true)) dispatcher.execute(this::dispatch);
+    }
+
+    /**
+     * Deliver a batch of events to the subscribers, then give the thread back
+     * (the task is submitted again while there are events, a single task runs at a time)
+     */
+    private void dispatch() {
+        try {
+            deliver();
+        } finally {
+            /*
+             * Even if a subscriber threw an error: stop if there is nothing left, unless an event was published after the last poll
+             */
+            if (!pending.isEmpty()) {
+                dispatcher.execute(this::dispatch);
+            } else {
+                dispatching.set(false);
+                if (!pending.isEmpty() && dispatching.compareAndSet(false, true)) dispatcher.execute(this::dispatch);
+            }
+        }
+    }
+
+    /**
+     * Deliver a batch of events to the subscribers
+     */
+    private void deliver() {
+        List<RaceEvent> batch = new ArrayList<>();
+        RaceEvent event;
+        while (batch.size() < EVENTS_PER_BATCH && (event = pending.poll()) != null) batch.add(event);
+        if (batch.isEmpty()) return;
+
+        /*
+         * A failing subscriber doesn't stop the delivery to the others, its failure is counted in the metrics
+         */
+        List<RaceEvent> events = Collections.unmodifiableList(batch);
+        for (RaceListener listener : listeners) {
+            try {
+                listener.eventsPublished(this, events);
+            } catch (RuntimeException e) {
+                MetricsRegistry.current().listenerFailed();
+            }
+        }
+    }
+}
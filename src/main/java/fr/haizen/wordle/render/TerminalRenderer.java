@@ -0,0 +1,219 @@
+package fr.haizen.wordle.render;
+
+import com.diogonunes.jcolor.Ansi;
+import com.diogonunes.jcolor.Attribute;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class draws the game in a terminal, frame by frame
+ * The first frame clears the screen, then only the cells that changed are written (cursor-addressed),
+ * and each frame is sent in a single write
+ *
+ * Layout: logo, instructions, board (one row per attempt), status, prompt, messages
+ */
+public class TerminalRenderer {
+
+    /**
+     * Clear the screen and move the cursor to the top left corner
+     */
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+
+    /**
+     * Clear the line of the cursor
+     */
+    private static final String CLEAR_LINE = "\033[2K";
+
+    /**
+     * The empty tile
+     */
+    private static final String EMPTY_TILE = Ansi.colorize("[ ]", Attribute.WHITE_TEXT());
+
+    /**
+     * The lines under the board
+     */
+    private static final int STATUS = 0, MESSAGE = 1, SECOND_MESSAGE = 2, PROMPT = 3;
+
+    /**
+     * The output (terminal)
+     */
+    private final PrintStream out;
+
+    /**
+     * The instructions (under the logo)
+     */
+    private final String[] instructions;
+
+    /**
+     * The first row of the board (1-based)
+     */
+    private final int boardRow;
+
+    /**
+     * The tiles to draw [row][letter], and the tiles on screen
+     */
+    private final String[][] tiles, drawnTiles;
+
+    /**
+     * The lines under the board to draw (status, messages, prompt), and the lines on screen
+     */
+    private final String[] lines, drawnLines;
+
+    /**
+     * If the screen was cleared (first frame drawn)
+     */
+    private boolean initialized;
+
+    /**
+     * Constructor
+     *
+     * @param out      the output (terminal)
+     * @param attempts the number of rows of the board
+     * @param length   the number of letters of a row
+     */
+    public TerminalRenderer(PrintStream out, int attempts, int length) {
+        this.out = out;
+        this.instructions = new String[]{
+                Ansi.colorize("Welcome to Wordle!", Attribute.YELLOW_TEXT()),
+                Ansi.colorize("Try to guess the " + length + "-letter word in " + attempts + " attempts.", Attribute.WHITE_TEXT()),
+                Ansi.colorize("After each guess, the color of the tiles will change to show how close your guess was to the word.", Attribute.WHITE_TEXT())
+        };
+        this.boardRow = WordUtils.WORDLE_LOGO.length + instructions.length + 3;
+        this.tiles = new String[attempts][length];
+        this.drawnTiles = new String[attempts][length];
+        this.lines = new String[]{"", "", "", ""};
+        this.drawnLines = new String[lines.length];
+
+        for (String[] row : tiles) Arrays.fill(row, EMPTY_TILE);
+    }
+
+    /**
+     * Set the tiles of a submitted guess (cached until the end of the game)
+     *
+     * @param row    the row of the guess
+     * @param result the result of the guess
+     */
+    public void submit(int row, GuessResult result) {
+        String guess = result.getGuess();
+        LetterFeedback[] feedback = result.getFeedback();
+        for (int i = 0; i < feedback.length; i++) {
+            tiles[row][i] = Ansi.colorize("[" + guess.charAt(i) + "]", feedback[i].getColor());
+        }
+    }
+
+    /**
+     * Set the status line (under the board)
+     *
+     * @param text  the text
+     * @param color the color
+     */
+    public void setStatus(String text, Attribute color) {
+        lines[STATUS] = Ansi.colorize(text, color);
+    }
+
+    /**
+     * Set the messages (two lines, under the prompt)
+     *
+     * @param first  the first line (empty for none)
+     * @param second the second line (empty for none)
+     * @param color  the color
+     */
+    public void setMessages(String first, String second, Attribute color) {
+        lines[MESSAGE] = first.isEmpty() ? "" : Ansi.colorize(first, color);
+        lines[SECOND_MESSAGE] = second.isEmpty() ? "" : Ansi.colorize(second, color);
+    }
+
+    /**
+     * Set the prompt, the cursor is left after it (empty for none)
+     *
+     * @param text  the text
+     * @param color the color
+     */
+    public void setPrompt(String text, Attribute color) {
+        lines[PROMPT] = text.isEmpty() ? "" : Ansi.colorize(text, color);
+    }
+
+    /**
+     * Draw a frame: only the tiles and lines that changed since the last frame
+     */
+    public void render() {
+        StringBuilder frame = new StringBuilder(512);
+
+        /*
+         * First frame: clear the screen and draw the static parts (logo, instructions)
+         */
+        if (!initialized) {
+            frame.append(CLEAR_SCREEN);
+            for (String line : WordUtils.WORDLE_LOGO) frame.append(Ansi.colorize(line, Attribute.BLUE_TEXT())).append('\n');
+            frame.append('\n');
+            for (String line : instructions) frame.append(line).append('\n');
+            initialized = true;
+        }
+
+        /*
+         * Draw the tiles that changed (each tile is 3 columns wide, after a 2 columns margin)
+         */
+        for (int row = 0; row < tiles.length; row++) {
+            for (int letter = 0; letter < tiles[row].length; letter++) {
+                if (tiles[row][letter].equals(drawnTiles[row][letter])) continue;
+                moveTo(frame, boardRow + row, 3 + 3 * letter).append(tiles[row][letter]);
+                drawnTiles[row][letter] = tiles[row][letter];
+            }
+        }
+
+        /*
+         * Draw the lines that changed, the prompt is always drawn last (the typed guess is still on its line)
+         */
+        for (int line = 0; line < lines.length; line++) {
+            if (line != PROMPT && Objects.equals(lines[line], drawnLines[line])) continue;
+            moveTo(frame, lineRow(line), 1).append(CLEAR_LINE).append(lines[line]);
+            drawnLines[line] = lines[line];
+        }
+
+        out.print(frame);
+        out.flush();
+    }
+
+    /**
+     * Move the cursor under the game (at the end of the game)
+     */
+    public void finish() {
+        StringBuilder frame = new StringBuilder(16);
+        moveTo(frame, lineRow(lines.length), 1);
+        out.print(frame);
+        out.flush();
+    }
+
+    /**
+     * Get the row of a line under the board (1-based)
+     *
+     * @param line the line (STATUS, PROMPT...)
+     * @return the row
+     */
+    private int lineRow(int line) {
+        int statusRow = boardRow + tiles.length + 1;
+        return switch (line) {
+            case STATUS -> statusRow;
+            case PROMPT -> statusRow + 1;
+            default -> statusRow + 1 + line;
+        };
+    }
+
+    /**
+     * Append the cursor move to a position (1-based)
+     *
+     * @param frame  the frame
+     * @param row    the row
+     * @param column the column
+     * @return the frame
+     */
+    private static StringBuilder moveTo(StringBuilder frame, int row, int column) {
+        return frame.append("\033[").append(row).append(';').append(column).append('H');
+    }
+}
@@ -0,0 +1,147 @@
+package fr.haizen.wordle.server;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.engine.HardModeConstraints;
+import fr.haizen.wordle.utils.WordUtils;
+import fr.haizen.wordle.wire.GameCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is the compact state of a hosted game
+ * The state (guess count, remaining attempts, won) is packed in one int, the guesses are packed words (see WordCodec)
+ * The state is only changed while holding the session lock, so a guess is recorded and counted at once
+ */
+final class Session {
+
+    private static final int COUNT_MASK = 0xF;
+    private static final int ATTEMPTS_SHIFT = 4;
+    private static final int WON_FLAG = 1 << 8;
+
+    /**
+     * The index of the word to guess in the answers
+     */
+    final int targetIndex;
+
+    /**
+     * The guesses (packed words, in order)
+     */
+    private final int[] guesses = new int[WordUtils.MAX_ATTEMPTS];
+
+    /**
+     * The hints revealed so far (hard mode only, null otherwise)
+     */
+    private final HardModeConstraints constraints;
+
+    /**
+     * The packed state (guess count, remaining attempts, won)
+     */
+    private volatile int state;
+
+    /**
+     * The last access time (System.nanoTime)
+     */
+    private volatile long lastAccess;
+
+    /**
+     * Constructor
+     *
+     * @param targetIndex the index of the word to guess
+     * @param hardMode    if the revealed hints must be used in the next guesses
+     * @param now         the creation time (System.nanoTime)
+     */
+    Session(int targetIndex, boolean hardMode, long now) {
+        this.targetIndex = targetIndex;
+        this.constraints = hardMode ? new HardModeConstraints() : null;
+        this.state = WordUtils.MAX_ATTEMPTS << ATTEMPTS_SHIFT;
+        this.lastAccess = now;
+    }
+
+    /**
+     * Record a guess, the remaining attempts are set to zero if the game is won
+     *
+     * @param packedGuess the packed guess
+     * @param pattern     the feedback of the guess
+     * @param won         if the guess is the word to guess
+     * @return the packed state after the guess, -1 if the game is already over
+     * @throws IllegalArgumentException if the guess doesn't use the revealed hints (hard mode)
+     */
+    synchronized int record(int packedGuess, int pattern, boolean won) {
+        int current = state;
+        int count = current & COUNT_MASK;
+        int attempts = remainingAttempts(current);
+        if (attempts <= 0) return -1;
+
+        if (constraints != null) {
+            if (!constraints.allows(packedGuess, WordUtils.WORD_LENGTH)) {
+                throw new IllegalArgumentException("The guess must use the revealed hints");
+            }
+            constraints.apply(packedGuess, pattern, WordUtils.WORD_LENGTH);
+        }
+
+        guesses[count] = packedGuess;
+        state = (count + 1) | (won ? WON_FLAG : (attempts - 1) << ATTEMPTS_SHIFT);
+        return state;
+    }
+
+    /**
+     * Get a consistent copy of the state and the guesses
+     *
+     * @param guessesCopy the array to fill with the guesses (MAX_ATTEMPTS)
+     * @return the packed state
+     */
+    synchronized int snapshot(int[] guessesCopy) {
+        System.arraycopy(guesses, 0, guessesCopy, 0, guesses.length);
+        return state;
+    }
+
+    /**
+     * Write a consistent frame of the game (see GameCodec), straight from the packed guesses
+     * The word to guess is hidden until the game is over
+     *
+     * @param buffer       the buffer (the position is moved after the frame)
+     * @param packedTarget the packed word to guess
+     * @return the size of the frame
+     */
+    synchronized int encode(ByteBuffer buffer, long packedTarget) {
+        int current = state;
+        int count = guessCount(current);
+        int targetId = remainingAttempts(current) <= 0 ? targetIndex : GameCodec.HIDDEN_TARGET;
+
+        int offset = GameCodec.startFrame(buffer, targetId, WordUtils.MAX_ATTEMPTS, count);
+        for (int i = 0; i < count; i++) {
+            GameCodec.putGuess(buffer, offset, i, guesses[i], GameLogic.score(guesses[i], packedTarget, WordUtils.WORD_LENGTH));
+        }
+        return GameCodec.encodedSize(count);
+    }
+
+    /**
+     * Update the last access time
+     *
+     * @param now the access time (System.nanoTime)
+     */
+    void touch(long now) {
+        lastAccess = now;
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    boolean isHardMode() {
+        return constraints != null;
+    }
+
+    static int guessCount(int state) {
+        return state & COUNT_MASK;
+    }
+
+    static int remainingAttempts(int state) {
+        return (state >>> ATTEMPTS_SHIFT) & COUNT_MASK;
+    }
+
+    static boolean isWon(int state) {
+        return (state & WON_FLAG) != 0;
+    }
+}
@@ -0,0 +1,262 @@
+package fr.haizen.wordle.server;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class hosts many games at once (thread safe), each game is a session identified by a random id
+ * The sessions not used for a while are evicted in the background
+ */
+public class SessionManager implements AutoCloseable {
+
+    /**
+     * The possible answers
+     */
+    private final WordList answers;
+
+    /**
+     * The sessions by id
+     */
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * The time after which an unused session is evicted
+     */
+    private final long idleTimeoutNanos;
+
+    /**
+     * The executor evicting the idle sessions
+     */
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Constructor
+     *
+     * @param answers     the possible answers
+     * @param idleTimeout the time after which an unused session is evicted
+     */
+    public SessionManager(WordList answers, Duration idleTimeout) {
+        if (answers.size() == 0) {
+            throw new IllegalArgumentException("No answer to play");
+        }
+
+        this.answers = answers;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-session-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = Math.max(idleTimeout.toMillis() / 2, 1);
+        this.evictor.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a session with a random word to guess
+     *
+     * @return the id of the session
+     */
+    public long create() {
+        return create(false);
+    }
+
+    /**
+     * Create a session with a random word to guess
+     *
+     * @param hardMode if the revealed hints must be used in the next guesses
+     * @return the id of the session
+     */
+    public long create(boolean hardMode) {
+        return create(ThreadLocalRandom.current().nextInt(answers.size()), hardMode);
+    }
+
+    /**
+     * Create a session (normal mode)
+     *
+     * @param targetIndex the index of the word to guess in the answers
+     * @return the id of the session
+     */
+    public long create(int targetIndex) {
+        return create(targetIndex, false);
+    }
+
+    /**
+     * Create a session
+     *
+     * @param targetIndex the index of the word to guess in the answers
+     * @param hardMode    if the revealed hints must be used in the next guesses
+     * @return the id of the session
+     */
+    public long create(int targetIndex, boolean hardMode) {
+        if (targetIndex < 0 || targetIndex >= answers.size()) {
+            throw new IllegalArgumentException("Invalid target index: " + targetIndex);
+        }
+
+        Session session = new Session(targetIndex, hardMode, System.nanoTime());
+        while (true) {
+            long id = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+            if (sessions.putIfAbsent(id, session) == null) return id;
+        }
+    }
+
+    /**
+     * Play a guess in a session (thread safe, a guess is counted once)
+     *
+     * @param sessionId the id of the session
+     * @param word      the guess
+     * @return the result of the guess
+     */
+    public GuessResult guess(long sessionId, String word) {
+        Session session = session(sessionId);
+        MetricsRegistry metrics = MetricsRegistry.current();
+        long start = metrics.startTimer();
+
+        /*
+         * Check if the word is valid (full letter, in the dictionary...)
+         */
+        long packedGuess = word.length() == WordUtils.WORD_LENGTH ? WordCodec.pack(word) : WordCodec.INVALID;
+        if (!WordUtils.isValidWord(packedGuess, WordUtils.WORD_LENGTH)) {
+            metrics.guessRejected();
+            throw new IllegalArgumentException("Invalid guess");
+        }
+
+        /*
+         * Score the guess, then record it (the game may have ended in the meantime)
+         */
+        int pattern = GameLogic.score(packedGuess, answers.packed(session.targetIndex), WordUtils.WORD_LENGTH);
+        boolean won = pattern == FeedbackPattern.ALL_CORRECT;
+        int state;
+        try {
+            state = session.record((int) packedGuess, pattern, won);
+        } catch (IllegalArgumentException e) {
+            metrics.guessRejected();
+            throw e;
+        }
+        if (state < 0) {
+            throw new IllegalStateException("The game is over");
+        }
+
+        metrics.guessScored(start);
+        if (won) metrics.gameWon();
+        else if (Session.remainingAttempts(state) == 0) metrics.gameLost();
+
+        return new GuessResult(word, won, pattern);
+    }
+
+    /**
+     * Get the state of a session
+     *
+     * @param sessionId the id of the session
+     * @return the state
+     */
+    public SessionState state(long sessionId) {
+        Session session = session(sessionId);
+        int[] packedGuesses = new int[WordUtils.MAX_ATTEMPTS];
+        int state = session.snapshot(packedGuesses);
+
+        /*
+         * Rebuild the results from the packed guesses
+         */
+        long packedTarget = answers.packed(session.targetIndex);
+        List<GuessResult> guesses = new ArrayList<>(Session.guessCount(state));
+        for (int i = 0; i < Session.guessCount(state); i++) {
+            int pattern = GameLogic.score(packedGuesses[i], packedTarget, WordUtils.WORD_LENGTH);
+            String guess = WordCodec.unpack(packedGuesses[i], WordUtils.WORD_LENGTH).toUpperCase();
+            guesses.add(new GuessResult(guess, pattern == FeedbackPattern.ALL_CORRECT, pattern));
+        }
+
+        int remainingAttempts = Session.remainingAttempts(state);
+        String targetWord = remainingAttempts <= 0 ? answers.word(session.targetIndex).toUpperCase() : null;
+        return new SessionState(sessionId, remainingAttempts, Session.isWon(state), session.isHardMode(), guesses, targetWord);
+    }
+
+    /**
+     * Write the state of a session as a binary frame (see GameCodec), the word to guess is hidden until the game is over
+     *
+     * @param sessionId the id of the session
+     * @param buffer    the buffer (the position is moved after the frame)
+     * @return the size of the frame
+     */
+    public int encode(long sessionId, ByteBuffer buffer) {
+        Session session = session(sessionId);
+        return session.encode(buffer, answers.packed(session.targetIndex));
+    }
+
+    /**
+     * Remove a session
+     *
+     * @param sessionId the id of the session
+     * @return true if the session existed
+     */
+    public boolean remove(long sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    /**
+     * Get the number of sessions
+     *
+     * @return the number of sessions
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Evict the sessions not used since the idle timeout
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Iterator<Session> iterator = sessions.values().iterator(); iterator.hasNext(); ) {
+            if (now - iterator.next().lastAccess() > idleTimeoutNanos) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Stop the eviction of the idle sessions
+     */
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+    }
+
+    /**
+     * Get a session and mark it as used
+     *
+     * @param sessionId the id of the session
+     * @return the session
+     */
+    private Session session(long sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            throw new NoSuchElementException("Unknown session: " + sessionId);
+        }
+        session.touch(System.nanoTime());
+        return session;
+    }
+}
@@ -0,0 +1,55 @@
+package fr.haizen.wordle.server;
+
+import fr.haizen.wordle.objects.GuessResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is a snapshot of a hosted game (for display)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionState {
+
+    /**
+     * The id of the session
+     */
+    private final long sessionId;
+
+    /**
+     * The remaining attempts
+     */
+    private final int remainingAttempts;
+
+    /**
+     * If the word was found
+     */
+    private final boolean won;
+
+    /**
+     * If the revealed hints must be used in the next guesses
+     */
+    private final boolean hardMode;
+
+    /**
+     * The results of the guesses (in order)
+     */
+    private final List<GuessResult> guesses;
+
+    /**
+     * The word to guess (upper case), only revealed when the game is over
+     */
+    private final String targetWord;
+
+    /**
+     * Check if the game is over (won or no remaining attempts)
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return remainingAttempts <= 0;
+    }
+}
@@ -0,0 +1,342 @@
+package fr.haizen.wordle.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.metrics.MetricsReporter;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordUtils;
+import fr.haizen.wordle.wire.GameCodec;
+import lombok.Getter;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class serves the games over HTTP (JDK built-in server), on top of the session manager
+ * - POST /games[?hard=true]     : create a game (hard mode: the revealed hints must be used), returns its id
+ * - POST /games/{id}/guesses    : play a guess (the word is the request body), returns the feedback
+ * - GET  /games/{id}            : get the state of a game (binary frame with Accept: application/octet-stream, see GameCodec)
+ * The requests are handled on virtual threads when the runtime has them (Java 21+), else on a platform thread pool
+ */
+public class WordleServer implements AutoCloseable {
+
+    /**
+     * The prefix of the game endpoints
+     */
+    private static final String GAMES_PATH = "/games";
+
+    /**
+     * The content type of the binary game frames
+     */
+    private static final String BINARY_TYPE = "application/octet-stream";
+
+    /**
+     * The buffer of the binary game frames of each thread (reused by the pool threads)
+     */
+    private static final ThreadLocal<ByteBuffer> FRAME_BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocate(GameCodec.MAX_SIZE));
+
+    /**
+     * The sessions (games) served
+     */
+    private final SessionManager sessionManager;
+
+    /**
+     * The HTTP server
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor handling the requests
+     */
+    private final ExecutorService executor;
+
+    /**
+     * If the requests are handled on virtual threads
+     */
+    @Getter
+    private final boolean virtualThreads;
+
+    /**
+     * Constructor
+     *
+     * @param sessionManager the sessions (games) served
+     * @param address        the address to listen on (port 0 for any free port)
+     * @throws IOException if the server can't listen on the address
+     */
+    public WordleServer(SessionManager sessionManager, InetSocketAddress address) throws IOException {
+        this.sessionManager = sessionManager;
+        this.server = HttpServer.create(address, 0);
+
+        /*
+         * Use virtual threads if the runtime has them (Java 21+), without requiring Java 21 to build
+         */
+        ExecutorService virtualExecutor = null;
+        try {
+            virtualExecutor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Java 17 - 20: fallback on platform threads
+        }
+        this.virtualThreads = virtualExecutor != null;
+        this.executor = virtualThreads
+                ? virtualExecutor
+                : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+
+        this.server.setExecutor(executor);
+        this.server.createContext(GAMES_PATH, this::handle);
+    }
+
+    /**
+     * Start serving the requests
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Get the port the server listens on
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Handle a request on the game endpoints
+     *
+     * @param exchange the request and its response
+     * @throws IOException if the response can't be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().substring(GAMES_PATH.length()).split("/");
+
+            try {
+                /*
+                 * Route the request: /games, /games/{id}, /games/{id}/guesses
+                 */
+                if (!path[0].isEmpty()) {
+                    send(exchange, 404, error("Not found"));
+                } else if (path.length == 1 && method.equals("POST")) {
+                    long sessionId = sessionManager.create("true".equals(queryParameter(exchange.getRequestURI().getQuery(), "hard")));
+                    send(exchange, 201, "{\"id\":\"" + Long.toHexString(sessionId) + "\"}");
+                } else if (path.length == 2 && method.equals("GET") && BINARY_TYPE.equals(exchange.getRequestHeaders().getFirst("Accept"))) {
+                    ByteBuffer frame = FRAME_BUFFERS.get().clear();
+                    int size = sessionManager.encode(parseId(path[1]), frame);
+                    send(exchange, 200, BINARY_TYPE, frame.array(), size);
+                } else if (path.length == 2 && method.equals("GET")) {
+                    send(exchange, 200, toJson(sessionManager.state(parseId(path[1]))));
+                } else if (path.length == 3 && path[2].equals("guesses") && method.equals("POST")) {
+                    String word = readBody(exchange.getRequestBody());
+                    send(exchange, 200, toJson(sessionManager.guess(parseId(path[1]), word)));
+                } else {
+                    send(exchange, 404, error("Not found"));
+                }
+            } catch (NoSuchElementException e) {
+                send(exchange, 404, error(e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, error(e.getMessage()));
+            } catch (IllegalStateException e) {
+                send(exchange, 409, error(e.getMessage()));
+            } catch (RuntimeException e) {
+                send(exchange, 500, error("Internal error"));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Parse the id of a session (hexadecimal)
+     *
+     * @param id the id in the path
+     * @return the id
+     */
+    private static long parseId(String id) {
+        try {
+            return Long.parseUnsignedLong(id, 16);
+        } catch (NumberFormatException e) {
+            throw new NoSuchElementException("Unknown session: " + id);
+        }
+    }
+
+    /**
+     * Get a parameter of a query string (name=value pairs separated by '&')
+     *
+     * @param query the query string (decoded, may be null)
+     * @param name  the name of the parameter
+     * @return the value of the first parameter with this name ("" without a value), or null if it is missing
+     */
+    private static String queryParameter(String query, String name) {
+        if (query == null) return null;
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            String key = separator < 0 ? parameter : parameter.substring(0, separator);
+            if (key.equals(name)) return separator < 0 ? "" : parameter.substring(separator + 1);
+        }
+        return null;
+    }
+
+    /**
+     * Read the body of a request (a word, at most a few bytes are read)
+     *
+     * @param body the body
+     * @return the body, trimmed
+     * @throws IOException if the body can't be read
+     */
+    private static String readBody(InputStream body) throws IOException {
+        byte[] bytes = body.readNBytes(64);
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Write a JSON response
+     *
+     * @param exchange the request and its response
+     * @param status   the HTTP status
+     * @param json     the JSON body
+     * @throws IOException if the response can't be written
+     */
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        send(exchange, status, "application/json", bytes, bytes.length);
+    }
+
+    /**
+     * Write a response
+     *
+     * @param exchange    the request and its response
+     * @param status      the HTTP status
+     * @param contentType the type of the body
+     * @param bytes       the body (from the start of the array)
+     * @param length      the length of the body
+     * @throws IOException if the response can't be written
+     */
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] bytes, int length) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes, 0, length);
+        }
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    /**
+     * Write the result of a guess as JSON
+     *
+     * @param result the result
+     * @return the JSON object
+     */
+    private static String toJson(GuessResult result) {
+        StringBuilder json = new StringBuilder(96)
+                .append("{\"guess\":\"").append(result.getGuess().toUpperCase())
+                .append("\",\"correct\":").append(result.isCorrect())
+                .append(",\"feedback\":[");
+
+        LetterFeedback[] feedback = result.getFeedback();
+        for (int i = 0; i < feedback.length; i++) {
+            if (i > 0) json.append(',');
+            json.append('"').append(feedback[i].name()).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Write the state of a game as JSON
+     *
+     * @param state the state
+     * @return the JSON object
+     */
+    private static String toJson(SessionState state) {
+        StringBuilder json = new StringBuilder(512)
+                .append("{\"id\":\"").append(Long.toHexString(state.getSessionId()))
+                .append("\",\"remainingAttempts\":").append(state.getRemainingAttempts())
+                .append(",\"won\":").append(state.isWon())
+                .append(",\"hardMode\":").append(state.isHardMode())
+                .append(",\"gameOver\":").append(state.isGameOver());
+
+        if (state.getTargetWord() != null) json.append(",\"targetWord\":\"").append(state.getTargetWord()).append('"');
+
+        json.append(",\"guesses\":[");
+        for (int i = 0; i < state.getGuesses().size(); i++) {
+            if (i > 0) json.append(',');
+            json.append(toJson(state.getGuesses().get(i)));
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Main method
+     *
+     * @param args the arguments (port, answers file, optional allowed guesses file)
+     * @throws IOException if a word list can't be read or the port can't be used
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: WordleServer <port> <answers file> [allowed guesses file]");
+            System.exit(1);
+        }
+
+        /*
+         * Load the word lists: the answers, and the allowed guesses (the dictionary of the valid words)
+         */
+        WordList answers = WordList.load(Path.of(args[1]));
+        if (args.length > 2) WordUtils.setDictionary(answers, WordList.load(Path.of(args[2])));
+        else WordUtils.setDictionary(answers);
+
+        /*
+         * Record the metrics (JMX MBean, and a text dump every wordle.metrics.period seconds on the error output, 0 for none)
+         */
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.install(metrics);
+        try {
+            metrics.registerMBean();
+        } catch (JMException e) {
+            System.err.println("The metrics MBean can't be registered: " + e.getMessage());
+        }
+        long period = Long.getLong("wordle.metrics.period", 60);
+        if (period > 0) new MetricsReporter(metrics, System.err, Duration.ofSeconds(period));
+
+        /*
+         * Disable Nagle's algorithm on the JDK server (JVM-wide, read once, when the first server is created),
+         * else the headers and the body of a response are delayed by the TCP acknowledgements
+         */
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        SessionManager sessionManager = new SessionManager(answers, Duration.ofMinutes(30));
+        WordleServer server = new WordleServer(sessionManager, new InetSocketAddress(Integer.parseInt(args[0])));
+        server.start();
+
+        System.out.println("Wordle server listening on port " + server.getPort()
+                + (server.isVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+    }
+}
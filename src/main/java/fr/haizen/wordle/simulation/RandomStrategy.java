@@ -0,0 +1,66 @@
+package fr.haizen.wordle.simulation;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.objects.GuessResult;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The strategy guessing a random word among the words still possible after the previous guesses
+ * (the baseline of the simulations)
+ */
+public class RandomStrategy implements Strategy {
+
+    /**
+     * The words to guess from (lower case)
+     */
+    private final List<String> words;
+
+    /**
+     * Constructor
+     *
+     * @param words the words to guess from
+     */
+    public RandomStrategy(List<String> words) {
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("The words can't be empty");
+        }
+        this.words = List.copyOf(words);
+    }
+
+    @Override
+    public String nextGuess(List<GuessResult> history) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String guess = null;
+        int candidates = 0;
+
+        /*
+         * Pick one of the words matching every previous feedback (reservoir sampling, a single pass)
+         */
+        for (String word : words) {
+            if (!isConsistent(word, history)) continue;
+            if (random.nextInt(++candidates) == 0) guess = word;
+        }
+
+        /*
+         * No word matches (the answer is not in the words): any word
+         */
+        return guess != null ? guess : words.get(random.nextInt(words.size()));
+    }
+
+    /**
+     * Check if a word gives the same feedback as every previous guess
+     *
+     * @param word    the word
+     * @param history the results of the previous guesses
+     * @return true if the word is still possible
+     */
+    private static boolean isConsistent(String word, List<GuessResult> history) {
+        for (GuessResult result : history) {
+            if (GameLogic.score(result.getGuess(), word) != result.getPattern()) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+package fr.haizen.wordle.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The results of a simulation (immutable)
+ */
+@Getter
+@AllArgsConstructor
+public class SimulationReport {
+
+    /**
+     * The number of games won
+     */
+    private final long wins;
+
+    /**
+     * The number of games lost
+     */
+    private final long losses;
+
+    /**
+     * The number of games won in n guesses, at index n - 1
+     */
+    private final long[] histogram;
+
+    /**
+     * The duration of the simulation
+     */
+    private final Duration elapsed;
+
+    /**
+     * Get the number of games played
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return wins + losses;
+    }
+
+    /**
+     * Get the ratio of games won
+     *
+     * @return the win rate (between 0 and 1)
+     */
+    public double getWinRate() {
+        return getGames() == 0 ? 0 : (double) wins / getGames();
+    }
+
+    /**
+     * Get the average number of guesses of the games won
+     *
+     * @return the average number of guesses
+     */
+    public double getAverageGuesses() {
+        long total = 0;
+        for (int i = 0; i < histogram.length; i++) total += (i + 1) * histogram[i];
+        return wins == 0 ? 0 : (double) total / wins;
+    }
+
+    /**
+     * Get the number of games played per second
+     *
+     * @return the throughput
+     */
+    public double getGamesPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return getGames() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(256)
+                .append(String.format("Games: %d (%.0f games/s)%n", getGames(), getGamesPerSecond()))
+                .append(String.format("Win rate: %.2f%% (%d won, %d lost)%n", getWinRate() * 100, wins, losses))
+                .append(String.format("Average guesses: %.3f%n", getAverageGuesses()));
+        for (int i = 0; i < histogram.length; i++) {
+            report.append(String.format("  %d: %d%n", i + 1, histogram[i]));
+        }
+        return report.toString();
+    }
+}
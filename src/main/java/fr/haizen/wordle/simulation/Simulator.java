@@ -0,0 +1,206 @@
+package fr.haizen.wordle.simulation;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.solver.DecisionTreeBuilder;
+import fr.haizen.wordle.solver.EntropySolver;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class plays headless games (no console) with a strategy, in parallel on a fork-join pool
+ * The results are aggregated in striped counters (LongAdder), without contention between the games
+ */
+public class Simulator {
+
+    /**
+     * The number of games played by a single fork-join task
+     */
+    private static final int GAMES_PER_TASK = 64;
+
+    /**
+     * The pool used to play the games
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor
+     *
+     * @param pool the pool used to play the games
+     */
+    public Simulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Play games with a strategy (default settings: 5 letters, 6 attempts)
+     *
+     * @param strategy the strategy (shared by every game)
+     * @param targets  the words to guess
+     * @param games    the number of games
+     * @return the results
+     */
+    public SimulationReport run(Strategy strategy, List<String> targets, int games) {
+        return run(strategy, targets, games, GameSettings.DEFAULT);
+    }
+
+    /**
+     * Play games with a strategy, the game i is played against the target i modulo the number of targets
+     *
+     * @param strategy the strategy (shared by every game)
+     * @param targets  the words to guess
+     * @param games    the number of games
+     * @param settings the settings of the games (word length, attempts)
+     * @return the results
+     */
+    public SimulationReport run(Strategy strategy, List<String> targets, int games, GameSettings settings) {
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("The targets can't be empty");
+        }
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games can't be negative");
+        }
+
+        Counters counters = new Counters(settings.getMaxAttempts());
+        long start = System.nanoTime();
+        pool.invoke(new PlayTask(strategy, List.copyOf(targets), settings, counters, 0, games));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long[] histogram = new long[settings.getMaxAttempts()];
+        for (int i = 0; i < histogram.length; i++) histogram[i] = counters.histogram[i].sum();
+        return new SimulationReport(counters.wins.sum(), counters.losses.sum(), histogram, elapsed);
+    }
+
+    /**
+     * Play a single game
+     *
+     * @param strategy the strategy
+     * @param target   the word to guess
+     * @param settings the settings of the game
+     * @return the number of guesses if the game is won, 0 if it is lost
+     */
+    static int play(Strategy strategy, String target, GameSettings settings) {
+        GameLogic gameLogic = new GameLogic(target, settings);
+        List<GuessResult> history = gameLogic.getHistory();
+
+        while (!gameLogic.isGameOver()) {
+            GuessResult result = gameLogic.checkGuess(strategy.nextGuess(history));
+            if (result.isCorrect()) return history.size();
+            gameLogic.decrementAttempts();
+        }
+        return 0;
+    }
+
+    /**
+     * The counters of a simulation (one cell per thread under contention)
+     */
+    private static class Counters {
+
+        private final LongAdder wins = new LongAdder();
+        private final LongAdder losses = new LongAdder();
+        private final LongAdder[] histogram;
+
+        Counters(int maxAttempts) {
+            histogram = new LongAdder[maxAttempts];
+            for (int i = 0; i < histogram.length; i++) histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * The task playing a range of games (split in two until the range is small enough)
+     */
+    @SuppressWarnings("serial")
+    private static class PlayTask extends RecursiveAction {
+
+        private final Strategy strategy;
+        private final List<String> targets;
+        private final GameSettings settings;
+        private final Counters counters;
+        private final int from;
+        private final int to;
+
+        PlayTask(Strategy strategy, List<String> targets, GameSettings settings, Counters counters, int from, int to) {
+            this.strategy = strategy;
+            this.targets = targets;
+            this.settings = settings;
+            this.counters = counters;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PlayTask(strategy, targets, settings, counters, from, middle),
+                        new PlayTask(strategy, targets, settings, counters, middle, to));
+                return;
+            }
+
+            for (int game = from; game < to; game++) {
+                int guesses = play(strategy, targets.get(game % targets.size()), settings);
+                if (guesses == 0) {
+                    counters.losses.increment();
+                } else {
+                    counters.wins.increment();
+                    counters.histogram[guesses - 1].increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Main method
+     *
+     * @param args the arguments: answers file, [number of games], [strategy: random, entropy or tree], [allowed guesses file]
+     * @throws IOException if a word list can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: Simulator <answers file> [games] [random|entropy|tree] [allowed guesses file]");
+            System.exit(1);
+        }
+
+        /*
+         * Load the word lists: the answers, and the allowed guesses (the dictionary of the valid words)
+         */
+        WordList answers = WordList.load(Path.of(args[0]));
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : answers.size();
+        String strategyName = args.length > 2 ? args[2] : "random";
+
+        List<String> guesses = new ArrayList<>(answers.asList());
+        if (args.length > 3) {
+            WordList allowed = WordList.load(Path.of(args[3]));
+            WordUtils.setDictionary(answers, allowed);
+            guesses.addAll(allowed.asList());
+        } else {
+            WordUtils.setDictionary(answers);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Strategy strategy = switch (strategyName) {
+            case "random" -> new RandomStrategy(answers.asList());
+            case "entropy" -> new EntropySolver(guesses, answers.asList(), pool, Duration.ofSeconds(5))::nextGuess;
+            case "tree" -> {
+                Path file = Files.createTempFile("wordle-tree", ".bin");
+                file.toFile().deleteOnExit();
+                yield new DecisionTreeBuilder(guesses, answers.asList(), pool, 1).build(file)::nextGuess;
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategyName);
+        };
+
+        System.out.print(new Simulator(pool).run(strategy, answers.asList(), games));
+    }
+}
@@ -0,0 +1,22 @@
+package fr.haizen.wordle.simulation;
+
+import fr.haizen.wordle.objects.GuessResult;
+
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * A player of the headless games: picks the next guess from the previous results
+ * A strategy is shared by every game of a simulation, so it must be thread-safe (EntropySolver::nextGuess is one)
+ */
+@FunctionalInterface
+public interface Strategy {
+
+    /**
+     * Pick the next guess of a game
+     *
+     * @param history the results of the previous guesses of the game, in order
+     * @return the guess
+     */
+    String nextGuess(List<GuessResult> history);
+}
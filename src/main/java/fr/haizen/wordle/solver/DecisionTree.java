@@ -0,0 +1,224 @@
+package fr.haizen.wordle.solver;
+
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordCodec;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class walks a precomputed guess tree (see DecisionTreeBuilder), memory-mapped from its file
+ * Each node stores the guess to play and only the feedback patterns some answer gives (sorted), so a turn is
+ * a binary search in a few bytes
+ *
+ * File layout: header, words (one packed int per word), nodes (guess word index, child count,
+ * the pattern byte of each child, then the offset of each child). A node is identified by its offset in the nodes
+ */
+@Getter
+public class DecisionTree {
+
+    /**
+     * The magic number of a tree file ("WDTR")
+     */
+    static final int MAGIC = 0x57445452;
+
+    /**
+     * The version of the tree file format
+     */
+    static final int VERSION = 2;
+
+    /**
+     * The size of the file header (magic, version, word length, word count, node count, answer count, total guesses, max depth)
+     */
+    static final int HEADER_SIZE = 32;
+
+    /**
+     * The size of a node without its children (guess word index, child count)
+     */
+    static final int NODE_HEADER_SIZE = Integer.BYTES + 1;
+
+    /**
+     * The size of a child of a node (pattern byte, child offset)
+     */
+    static final int CHILD_SIZE = 1 + Integer.BYTES;
+
+    /**
+     * The root node (offset in the nodes)
+     */
+    public static final int ROOT = 0;
+
+    /**
+     * The child index of a pattern that no answer gives
+     */
+    public static final int NO_NODE = -1;
+
+    /**
+     * The length of the words
+     */
+    private final int wordLength;
+
+    /**
+     * The number of nodes
+     */
+    private final int nodeCount;
+
+    /**
+     * The number of answers solved by the tree
+     */
+    private final int answerCount;
+
+    /**
+     * The number of guesses to solve every answer (sum over the answers)
+     */
+    private final int totalGuesses;
+
+    /**
+     * The highest number of guesses to solve an answer
+     */
+    private final int maxDepth;
+
+    /**
+     * The words played by the nodes (lower case)
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] words;
+
+    /**
+     * The nodes (memory-mapped file), without the header and the words
+     */
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer nodes;
+
+    /**
+     * Constructor
+     *
+     * @param header the header values (word length, word count, node count, answer count, total guesses, max depth)
+     * @param words  the words played by the nodes
+     * @param nodes  the nodes
+     */
+    private DecisionTree(int[] header, String[] words, ByteBuffer nodes) {
+        this.wordLength = header[0];
+        this.nodeCount = header[2];
+        this.answerCount = header[3];
+        this.totalGuesses = header[4];
+        this.maxDepth = header[5];
+        this.words = words;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Open a tree file (memory-mapped, read only)
+     *
+     * @param file the tree file
+     * @return the tree (backed by the file)
+     * @throws IOException if the file can't be read or is not a tree file
+     */
+    public static DecisionTree open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a decision tree file: " + file);
+            }
+
+            int[] header = new int[6];
+            for (int i = 0; i < header.length; i++) header[i] = buffer.getInt();
+            int wordLength = header[0], wordCount = header[1], nodeCount = header[2];
+
+            long nodesSize = buffer.remaining() - (long) wordCount * Integer.BYTES;
+            if (nodeCount == 0 || nodesSize < (long) nodeCount * NODE_HEADER_SIZE) {
+                throw new IOException("Truncated decision tree file: " + file);
+            }
+
+            /*
+             * The words are decoded once, the nodes stay in the mapped file
+             */
+            String[] words = new String[wordCount];
+            for (int i = 0; i < wordCount; i++) words[i] = WordCodec.unpack(buffer.getInt(), wordLength);
+
+            return new DecisionTree(header, words, buffer.slice(buffer.position(), (int) nodesSize));
+        }
+    }
+
+    /**
+     * Get the word played by a node
+     *
+     * @param node the node
+     * @return the guess (lower case)
+     */
+    public String guess(int node) {
+        return words[nodes.getInt(node)];
+    }
+
+    /**
+     * Get the node reached after the feedback of a node guess
+     *
+     * @param node    the node
+     * @param pattern the feedback pattern of the guess
+     * @return the child node, or NO_NODE if no answer gives this pattern (or the guess was correct)
+     */
+    public int child(int node, int pattern) {
+        int count = nodes.get(node + Integer.BYTES) & 0xFF;
+        int patterns = node + NODE_HEADER_SIZE;
+
+        /*
+         * Binary search of the pattern in the sorted pattern bytes, the offsets follow them in the same order
+         */
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int current = nodes.get(patterns + middle) & 0xFF;
+            if (current < pattern) low = middle + 1;
+            else if (current > pattern) high = middle - 1;
+            else return nodes.getInt(patterns + count + middle * Integer.BYTES);
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * Get the next guess of a game played with the tree (the strategy of a simulation)
+     *
+     * @param history the results of the previous guesses (in order)
+     * @return the next guess (lower case)
+     */
+    public String nextGuess(List<GuessResult> history) {
+        return guess(nodeOf(history));
+    }
+
+    /**
+     * Get the node of a game, one lookup per previous guess
+     *
+     * @param history the results of the previous guesses (in order)
+     * @return the node of the next guess
+     */
+    public int nodeOf(List<GuessResult> history) {
+        int node = ROOT;
+        for (GuessResult result : history) {
+            if (!result.getGuess().equalsIgnoreCase(guess(node))) {
+                throw new IllegalStateException("The guess " + result.getGuess() + " is not in the tree");
+            }
+
+            node = child(node, result.getPattern());
+            if (node == NO_NODE) {
+                throw new IllegalStateException("No answer matches the feedback");
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Get the average number of guesses to solve an answer
+     *
+     * @return the average
+     */
+    public double getAverageGuesses() {
+        return (double) totalGuesses / answerCount;
+    }
+}
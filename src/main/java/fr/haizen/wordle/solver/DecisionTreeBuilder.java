@@ -0,0 +1,445 @@
+package fr.haizen.wordle.solver;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.FeedbackMatrix;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class builds the guess tree of perfect play offline and writes it to a file (read by DecisionTree)
+ *
+ * At each node, the guesses with the highest entropy over the answers still possible are tried (the breadth),
+ * their subtrees are built in parallel on a fork-join pool and the guess solving the answers in the fewest
+ * guesses is kept. The subtrees are memoised by answer subset, so a subset reached by several paths is built once
+ */
+public class DecisionTreeBuilder {
+
+    /**
+     * The allowed guesses (lower case), then the answers that are not allowed guesses
+     */
+    private final List<String> words;
+
+    /**
+     * The number of allowed guesses (the rows of the matrix)
+     */
+    private final int guessCount;
+
+    /**
+     * The possible answers (lower case, without duplicates)
+     */
+    private final List<String> answers;
+
+    /**
+     * The pattern of every allowed guess against every answer
+     */
+    private final FeedbackMatrix matrix;
+
+    /**
+     * The word index of each answer
+     */
+    private final int[] wordOfAnswer;
+
+    /**
+     * The index of the answer of each word (-1 if the word is not an answer)
+     */
+    private final int[] answerOfWord;
+
+    /**
+     * The number of guesses tried at each node (1: the highest entropy only)
+     */
+    private final int breadth;
+
+    /**
+     * The pool used to build the subtrees
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The subtrees already built, by answer subset
+     */
+    private final Map<Subset, Node> memo = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param guesses the allowed guesses
+     * @param answers the possible answers
+     * @param pool    the pool used to build the subtrees
+     * @param breadth the number of guesses tried at each node (a higher breadth gives a better tree, slower to build)
+     */
+    public DecisionTreeBuilder(List<String> guesses, List<String> answers, ForkJoinPool pool, int breadth) {
+        if (breadth < 1) {
+            throw new IllegalArgumentException("The breadth must be positive: " + breadth);
+        }
+
+        List<String> guessWords = new ArrayList<>(new LinkedHashSet<>(toLowerCase(guesses)));
+        this.answers = List.copyOf(new LinkedHashSet<>(toLowerCase(answers)));
+        this.matrix = FeedbackMatrix.compute(guessWords, this.answers);
+        this.guessCount = guessWords.size();
+        this.breadth = breadth;
+        this.pool = pool;
+
+        /*
+         * Link the answers to the words (an answer that is not an allowed guess is added after the guesses)
+         */
+        Map<String, Integer> wordIndexes = new HashMap<>();
+        for (int i = 0; i < guessWords.size(); i++) wordIndexes.put(guessWords.get(i), i);
+
+        List<String> allWords = new ArrayList<>(guessWords);
+        this.wordOfAnswer = new int[this.answers.size()];
+        for (int answer = 0; answer < this.answers.size(); answer++) {
+            Integer word = wordIndexes.get(this.answers.get(answer));
+            if (word == null) {
+                word = allWords.size();
+                allWords.add(this.answers.get(answer));
+            }
+            this.wordOfAnswer[answer] = word;
+        }
+
+        this.words = List.copyOf(allWords);
+        this.answerOfWord = new int[this.words.size()];
+        Arrays.fill(this.answerOfWord, -1);
+        for (int answer = 0; answer < wordOfAnswer.length; answer++) this.answerOfWord[wordOfAnswer[answer]] = answer;
+    }
+
+    /**
+     * Build the tree and write it to a file (the file is created or replaced)
+     *
+     * @param file the tree file
+     * @return the tree (backed by the file)
+     * @throws IOException if the file can't be written
+     */
+    public DecisionTree build(Path file) throws IOException {
+        if (answers.isEmpty()) {
+            throw new IllegalArgumentException("No answer to solve");
+        }
+
+        int[] all = new int[answers.size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        Node root = pool.invoke(new BuildTask(all));
+
+        write(root, file);
+        return DecisionTree.open(file);
+    }
+
+    /**
+     * Write a tree (each shared subtree is written once)
+     *
+     * @param root the root node
+     * @param file the tree file
+     * @throws IOException if the file can't be written
+     */
+    private void write(Node root, Path file) throws IOException {
+        /*
+         * Number the nodes in breadth-first order, the root first
+         */
+        Map<Node, Integer> offsets = new IdentityHashMap<>();
+        List<Node> order = new ArrayList<>();
+        offsets.put(root, 0);
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            for (Node child : order.get(i).children) {
+                if (child != null && offsets.putIfAbsent(child, 0) == null) order.add(child);
+            }
+        }
+
+        /*
+         * Place the nodes one after the other, a node only stores the children it has
+         */
+        long nodesSize = 0;
+        for (Node node : order) {
+            offsets.put(node, (int) nodesSize);
+            nodesSize += DecisionTree.NODE_HEADER_SIZE + (long) childCount(node) * DecisionTree.CHILD_SIZE;
+        }
+
+        long size = DecisionTree.HEADER_SIZE + (long) words.size() * Integer.BYTES + nodesSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Decision tree too large: " + order.size() + " nodes");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(DecisionTree.MAGIC).putInt(DecisionTree.VERSION)
+                    .putInt(WordUtils.WORD_LENGTH).putInt(words.size()).putInt(order.size())
+                    .putInt(answers.size()).putInt(root.cost).putInt(root.depth);
+
+            for (String word : words) buffer.putInt((int) WordCodec.pack(word));
+            for (Node node : order) {
+                buffer.putInt(node.word).put((byte) childCount(node));
+
+                /*
+                 * The patterns (in increasing order, searched by DecisionTree.child), then the offsets in the same order
+                 */
+                for (int pattern = 0; pattern < node.children.length; pattern++) {
+                    if (node.children[pattern] != null) buffer.put((byte) pattern);
+                }
+                for (Node child : node.children) {
+                    if (child != null) buffer.putInt(offsets.get(child));
+                }
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * Get the number of children of a node
+     *
+     * @param node the node
+     * @return the number of patterns with a child
+     */
+    private static int childCount(Node node) {
+        int count = 0;
+        for (Node child : node.children) {
+            if (child != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Get the pattern of a word against an answer
+     *
+     * @param word   the index of the word
+     * @param answer the index of the answer
+     * @return the pattern
+     */
+    private int pattern(int word, int answer) {
+        return word < guessCount ? matrix.get(word, answer) : GameLogic.score(words.get(word), answers.get(answer));
+    }
+
+    /**
+     * Convert the words to lower case
+     *
+     * @param words the words
+     * @return the words in lower case
+     */
+    private static List<String> toLowerCase(List<String> words) {
+        List<String> lowerCase = new ArrayList<>(words.size());
+        for (String word : words) lowerCase.add(word.toLowerCase());
+        return lowerCase;
+    }
+
+    /**
+     * A node of the tree being built
+     *
+     * @param word     the index of the word to play
+     * @param cost     the number of guesses to solve every answer of the subset
+     * @param depth    the highest number of guesses to solve an answer of the subset
+     * @param children the child of each pattern (null if no answer gives it)
+     */
+    private record Node(int word, int cost, int depth, Node[] children) {
+    }
+
+    /**
+     * A subset of answers (sorted indexes), the key of the memoised subtrees
+     */
+    private record Subset(int[] answers, int hash) {
+
+        Subset(int[] answers) {
+            this(answers, Arrays.hashCode(answers));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Subset subset && hash == subset.hash && Arrays.equals(answers, subset.answers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The task building the subtree of a subset of answers
+     */
+    @SuppressWarnings("serial")
+    private class BuildTask extends RecursiveTask<Node> {
+
+        private final int[] candidates;
+
+        BuildTask(int[] candidates) {
+            this.candidates = candidates;
+        }
+
+        @Override
+        protected Node compute() {
+            Subset key = new Subset(candidates);
+            Node node = memo.get(key);
+            if (node != null) return node;
+
+            node = candidates.length <= 2 ? play(wordOfAnswer[candidates[0]]) : bestOf(rank());
+
+            /*
+             * Another task may have built the same subset meanwhile, keep a single copy
+             */
+            Node previous = memo.putIfAbsent(key, node);
+            return previous != null ? previous : node;
+        }
+
+        /**
+         * Build the subtrees of the ranked guesses and keep the one with the lowest cost
+         *
+         * @param ranked the guesses to try
+         * @return the best node
+         */
+        private Node bestOf(int[] ranked) {
+            if (ranked.length == 1) return play(ranked[0]);
+
+            List<ForkJoinTask<Node>> options = new ArrayList<>(ranked.length);
+            for (int word : ranked) {
+                options.add(ForkJoinTask.adapt(() -> play(word)).fork());
+            }
+
+            Node best = null;
+            for (ForkJoinTask<Node> option : options) {
+                Node node = option.join();
+                if (best == null || node.cost < best.cost || (node.cost == best.cost && node.depth < best.depth)) best = node;
+            }
+            return best;
+        }
+
+        /**
+         * Build the node playing a word: split the candidates by pattern, then build the subtrees in parallel
+         *
+         * @param word the index of the word
+         * @return the node
+         */
+        private Node play(int word) {
+            int[] counts = new int[FeedbackPattern.PATTERN_COUNT];
+            for (int candidate : candidates) counts[pattern(word, candidate)]++;
+
+            int[][] subsets = new int[FeedbackPattern.PATTERN_COUNT][];
+            for (int pattern = 0; pattern < counts.length; pattern++) {
+                if (counts[pattern] > 0) subsets[pattern] = new int[counts[pattern]];
+                counts[pattern] = 0;
+            }
+            for (int candidate : candidates) {
+                int pattern = pattern(word, candidate);
+                subsets[pattern][counts[pattern]++] = candidate;
+            }
+
+            /*
+             * One subtree per pattern, except the winning one
+             */
+            BuildTask[] tasks = new BuildTask[FeedbackPattern.PATTERN_COUNT];
+            for (int pattern = 0; pattern < subsets.length; pattern++) {
+                if (subsets[pattern] != null && pattern != FeedbackPattern.ALL_CORRECT) tasks[pattern] = new BuildTask(subsets[pattern]);
+            }
+            for (BuildTask task : tasks) if (task != null) task.fork();
+
+            Node[] children = new Node[FeedbackPattern.PATTERN_COUNT];
+            int cost = candidates.length, depth = 1;
+            for (int pattern = tasks.length - 1; pattern >= 0; pattern--) {
+                if (tasks[pattern] == null) continue;
+                Node child = tasks[pattern].join();
+                children[pattern] = child;
+                cost += child.cost;
+                depth = Math.max(depth, child.depth + 1);
+            }
+            return new Node(word, cost, depth, children);
+        }
+
+        /**
+         * Rank the allowed guesses by entropy over the candidates (a possible answer first on a tie)
+         *
+         * @return the indexes of the best words (at most breadth, each of them splits the candidates)
+         */
+        private int[] rank() {
+            int[] best = new int[breadth];
+            double[] bestEntropy = new double[breadth];
+            int found = 0;
+
+            boolean[] isCandidate = new boolean[answers.size()];
+            for (int candidate : candidates) isCandidate[candidate] = true;
+
+            int[] counts = new int[FeedbackPattern.PATTERN_COUNT];
+            for (int word = 0; word < guessCount; word++) {
+                /*
+                 * Count the candidates of each pattern, the entropy is log(n) - sum(c * log(c)) / n
+                 */
+                for (int candidate : candidates) counts[matrix.get(word, candidate)]++;
+
+                double sum = 0;
+                for (int pattern = 0; pattern < counts.length; pattern++) {
+                    int count = counts[pattern];
+                    if (count > 1) sum += count * Math.log(count);
+                    counts[pattern] = 0;
+                }
+                double entropy = Math.log(candidates.length) - sum / candidates.length;
+
+                /*
+                 * A possible answer is worth a tiny bit more (it can win), a word that doesn't split is never played
+                 */
+                if (answerOfWord[word] >= 0 && isCandidate[answerOfWord[word]]) entropy += 1e-9;
+                if (entropy <= 1e-9) continue;
+
+                /*
+                 * Insert the word in the best ones (sorted by entropy, highest first)
+                 */
+                if (found == breadth && entropy <= bestEntropy[breadth - 1]) continue;
+                int position = Math.min(found, breadth - 1);
+                while (position > 0 && bestEntropy[position - 1] < entropy) {
+                    best[position] = best[position - 1];
+                    bestEntropy[position] = bestEntropy[position - 1];
+                    position--;
+                }
+                best[position] = word;
+                bestEntropy[position] = entropy;
+                found = Math.min(found + 1, breadth);
+            }
+
+            /*
+             * No allowed guess splits the candidates, play one of them
+             */
+            if (found == 0) return new int[]{wordOfAnswer[candidates[0]]};
+            return Arrays.copyOf(best, found);
+        }
+    }
+
+    /**
+     * Main method
+     *
+     * @param args the arguments: answers file, tree file, [allowed guesses file], [breadth]
+     * @throws IOException if a file can't be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DecisionTreeBuilder <answers file> <tree file> [allowed guesses file] [breadth]");
+            System.exit(1);
+        }
+
+        WordList answers = WordList.load(Path.of(args[0]));
+        List<String> guesses = new ArrayList<>(answers.asList());
+        if (args.length > 2) guesses.addAll(WordList.load(Path.of(args[2])).asList());
+        int breadth = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        long start = System.nanoTime();
+        DecisionTreeBuilder builder = new DecisionTreeBuilder(guesses, answers.asList(), ForkJoinPool.commonPool(), breadth);
+        DecisionTree tree = builder.build(Path.of(args[1]));
+
+        System.out.printf("Nodes: %d, first guess: %s, average guesses: %.4f, max guesses: %d (%d ms)%n",
+                tree.getNodeCount(), tree.guess(DecisionTree.ROOT), tree.getAverageGuesses(), tree.getMaxDepth(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
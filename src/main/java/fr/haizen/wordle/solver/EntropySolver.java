@@ -0,0 +1,321 @@
+package fr.haizen.wordle.solver;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.engine.FeedbackMatrix;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GuessResult;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class picks the next guess of a game by maximising the expected information (pattern entropy)
+ * over the answers still possible, using the feedback matrix of the game rules
+ */
+public class EntropySolver {
+
+    /**
+     * The number of guesses evaluated by a single fork-join task
+     */
+    private static final int GUESSES_PER_TASK = 64;
+
+    /**
+     * The allowed guesses (lower case)
+     */
+    @Getter
+    private final List<String> guesses;
+
+    /**
+     * The possible answers (lower case)
+     */
+    @Getter
+    private final List<String> answers;
+
+    /**
+     * The pattern of every guess against every answer
+     */
+    private final FeedbackMatrix matrix;
+
+    /**
+     * The index of each allowed guess
+     */
+    private final Map<String, Integer> guessIndexes;
+
+    /**
+     * The index of the answer of each allowed guess (-1 if the guess is not an answer)
+     */
+    private final int[] answerOfGuess;
+
+    /**
+     * The pool used to evaluate the guesses
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The time budget of a search
+     */
+    private final long budgetNanos;
+
+    /**
+     * The best first guess (computed once, null until a search ends within its budget)
+     */
+    private volatile String firstGuess;
+
+    /**
+     * The best second guess for each pattern of the first guess (only the searches ended within their budget)
+     */
+    private final Map<Integer, String> secondGuesses = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param guesses the allowed guesses
+     * @param answers the possible answers
+     * @param pool    the pool used to evaluate the guesses
+     * @param budget  the time budget of a search (the best guess found so far is returned when it is over)
+     */
+    public EntropySolver(List<String> guesses, List<String> answers, ForkJoinPool pool, Duration budget) {
+        this.guesses = toLowerCase(guesses);
+        this.answers = toLowerCase(answers);
+        this.matrix = FeedbackMatrix.compute(this.guesses, this.answers);
+        this.pool = pool;
+        this.budgetNanos = budget.toNanos();
+
+        /*
+         * Index the guesses, and link them to the answers (a guess that can win is preferred)
+         */
+        Map<String, Integer> answerIndexes = new HashMap<>();
+        for (int i = 0; i < this.answers.size(); i++) answerIndexes.putIfAbsent(this.answers.get(i), i);
+
+        this.guessIndexes = new HashMap<>();
+        this.answerOfGuess = new int[this.guesses.size()];
+        for (int i = 0; i < this.guesses.size(); i++) {
+            this.guessIndexes.putIfAbsent(this.guesses.get(i), i);
+            this.answerOfGuess[i] = answerIndexes.getOrDefault(this.guesses.get(i), -1);
+        }
+    }
+
+    /**
+     * Get the next guess of a game
+     *
+     * @param history the results of the previous guesses (in order)
+     * @return the next guess (lower case)
+     */
+    public String nextGuess(List<GuessResult> history) {
+        /*
+         * The first guess doesn't depend on the game, compute it only once
+         */
+        if (history.isEmpty()) {
+            String guess = firstGuess;
+            if (guess != null) return guess;
+
+            Choice choice = search(allAnswers());
+            if (choice.complete()) firstGuess = choice.guess();
+            return choice.guess();
+        }
+
+        /*
+         * The second guess only depends on the pattern of the first guess (when it was the cached one)
+         * The search runs outside of the map, and a search cut by the budget is not kept
+         */
+        if (history.size() == 1 && history.get(0).getGuess().equalsIgnoreCase(firstGuess)) {
+            int pattern = history.get(0).getPattern();
+            String cached = secondGuesses.get(pattern);
+            if (cached != null) return cached;
+
+            Choice choice = search(candidates(history));
+            if (!choice.complete()) return choice.guess();
+            String previous = secondGuesses.putIfAbsent(pattern, choice.guess());
+            return previous != null ? previous : choice.guess();
+        }
+
+        return search(candidates(history)).guess();
+    }
+
+    /**
+     * Get the answers still possible after the previous guesses
+     *
+     * @param history the results of the previous guesses
+     * @return the indexes of the answers
+     */
+    public int[] candidates(List<GuessResult> history) {
+        int[] candidates = allAnswers();
+        int count = candidates.length;
+
+        /*
+         * Each guess is resolved once, then its feedback filters the answers left (a row of the matrix)
+         */
+        for (GuessResult result : history) {
+            int pattern = result.getPattern();
+            Integer guessIndex = guessIndexes.get(result.getGuess().toLowerCase());
+            int kept = 0;
+
+            if (guessIndex != null) {
+                for (int i = 0; i < count; i++) {
+                    if (matrix.get(guessIndex, candidates[i]) == pattern) candidates[kept++] = candidates[i];
+                }
+            } else {
+                /*
+                 * A guess outside of the allowed guesses is scored directly
+                 */
+                for (int i = 0; i < count; i++) {
+                    if (GameLogic.score(result.getGuess(), answers.get(candidates[i])) == pattern) candidates[kept++] = candidates[i];
+                }
+            }
+            count = kept;
+        }
+
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Search the guess with the highest entropy over the candidates
+     *
+     * @param candidates the indexes of the answers still possible
+     * @return the best guess, and if every guess was evaluated within the budget
+     */
+    private Choice search(int[] candidates) {
+        if (candidates.length == 0) {
+            throw new IllegalStateException("No answer matches the feedback");
+        }
+
+        /*
+         * With one or two answers left, playing one of them is the best move
+         */
+        if (candidates.length <= 2) return new Choice(answers.get(candidates[0]), true);
+
+        boolean[] isCandidate = new boolean[answers.size()];
+        for (int candidate : candidates) isCandidate[candidate] = true;
+
+        long deadline = System.nanoTime() + budgetNanos;
+        Best best = pool.invoke(new SearchTask(candidates, isCandidate, deadline, 0, guesses.size()));
+
+        /*
+         * Nothing evaluated in the budget, play a possible answer
+         */
+        boolean complete = best.evaluated == guesses.size();
+        return new Choice(best.guess < 0 ? answers.get(candidates[0]) : guesses.get(best.guess), complete);
+    }
+
+    /**
+     * Get the indexes of all the answers
+     *
+     * @return the indexes
+     */
+    private int[] allAnswers() {
+        int[] all = new int[answers.size()];
+        for (int i = 0; i < all.length; i++) all[i] = i;
+        return all;
+    }
+
+    /**
+     * Convert the words to lower case
+     *
+     * @param words the words
+     * @return the words in lower case
+     */
+    private static List<String> toLowerCase(List<String> words) {
+        List<String> lowerCase = new ArrayList<>(words.size());
+        for (String word : words) lowerCase.add(word.toLowerCase());
+        return List.copyOf(lowerCase);
+    }
+
+    /**
+     * The result of a search: the guess, and if the search ended within its budget (only these are cached)
+     */
+    private record Choice(String guess, boolean complete) {
+    }
+
+    /**
+     * The best guess of a range (index and score), and the number of guesses evaluated in the range
+     */
+    private record Best(int guess, double entropy, boolean candidate, int evaluated) {
+
+        /**
+         * Check if this guess is better than another one (higher entropy, then possible answer first)
+         *
+         * @param other the other guess
+         * @return true if this guess is better
+         */
+        boolean isBetterThan(Best other) {
+            if (other.guess < 0) return guess >= 0;
+            if (guess < 0) return false;
+            if (entropy != other.entropy) return entropy > other.entropy;
+            if (candidate != other.candidate) return candidate;
+            return guess < other.guess;
+        }
+    }
+
+    /**
+     * The task evaluating a range of guesses (split in two until the range is small enough)
+     */
+    @SuppressWarnings("serial")
+    private class SearchTask extends RecursiveTask<Best> {
+
+        private final int[] candidates;
+        private final boolean[] isCandidate;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        SearchTask(int[] candidates, boolean[] isCandidate, long deadline, int from, int to) {
+            this.candidates = candidates;
+            this.isCandidate = isCandidate;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Best compute() {
+            if (to - from > GUESSES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                SearchTask left = new SearchTask(candidates, isCandidate, deadline, from, middle);
+                left.fork();
+                Best right = new SearchTask(candidates, isCandidate, deadline, middle, to).compute();
+                Best leftBest = left.join();
+                Best best = right.isBetterThan(leftBest) ? right : leftBest;
+                return new Best(best.guess, best.entropy, best.candidate, leftBest.evaluated + right.evaluated);
+            }
+
+            Best best = new Best(-1, 0, false, 0);
+            int evaluated = 0;
+            int[] counts = new int[FeedbackPattern.PATTERN_COUNT];
+
+            for (int guess = from; guess < to; guess++) {
+                /*
+                 * The budget is over, keep the best guess found so far
+                 */
+                if (System.nanoTime() - deadline > 0) break;
+
+                /*
+                 * Count the candidates of each pattern, the entropy is log(n) - sum(c * log(c)) / n
+                 */
+                for (int candidate : candidates) counts[matrix.get(guess, candidate)]++;
+
+                double sum = 0;
+                for (int pattern = 0; pattern < counts.length; pattern++) {
+                    int count = counts[pattern];
+                    if (count > 1) sum += count * Math.log(count);
+                    counts[pattern] = 0;
+                }
+                double entropy = Math.log(candidates.length) - sum / candidates.length;
+
+                int answer = answerOfGuess[guess];
+                Best current = new Best(guess, entropy, answer >= 0 && isCandidate[answer], 0);
+                if (current.isBetterThan(best)) best = current;
+                evaluated++;
+            }
+            return new Best(best.guess, best.entropy, best.candidate, evaluated);
+        }
+    }
+}
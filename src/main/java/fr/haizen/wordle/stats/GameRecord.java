@@ -0,0 +1,192 @@
+package fr.haizen.wordle.stats;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.objects.GuessResult;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The record of a finished game, as stored in the stats log (compact binary format)
+ *
+ * Format: payload length (int), player id (long), timestamp (long, epoch millis), answer index (int),
+ * word length (byte), row count (byte), one packed feedback per row (short, see FeedbackPattern), CRC32 of the payload (int)
+ */
+@Getter
+public class GameRecord {
+
+    /**
+     * The size of the payload without the rows
+     */
+    private static final int FIXED_PAYLOAD_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES + 2;
+
+    /**
+     * The maximum size of an encoded record (one row per attempt)
+     */
+    static final int MAX_SIZE = Integer.BYTES + FIXED_PAYLOAD_SIZE + GameSettings.MAX_ATTEMPTS * Short.BYTES + Integer.BYTES;
+
+    /**
+     * The id of the player
+     */
+    private final long playerId;
+
+    /**
+     * The index of the answer (in the answers word list)
+     */
+    private final int answerIndex;
+
+    /**
+     * The length of the word
+     */
+    private final int wordLength;
+
+    /**
+     * The packed feedback of each guess, in order
+     */
+    private final int[] patterns;
+
+    /**
+     * The end of the game (epoch millis)
+     */
+    private final long timestamp;
+
+    /**
+     * Constructor
+     *
+     * @param playerId    the id of the player
+     * @param answerIndex the index of the answer
+     * @param wordLength  the length of the word
+     * @param patterns    the packed feedback of each guess (0 to 15 rows, none if the game was lost without a guess)
+     * @param timestamp   the end of the game (epoch millis)
+     */
+    public GameRecord(long playerId, int answerIndex, int wordLength, int[] patterns, long timestamp) {
+        if (patterns.length > GameSettings.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("A game record has at most 15 rows");
+        }
+
+        this.playerId = playerId;
+        this.answerIndex = answerIndex;
+        this.wordLength = wordLength;
+        this.patterns = patterns.clone();
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Create the record of a finished game (from its history, a game lost without a guess has no row)
+     *
+     * @param playerId    the id of the player
+     * @param answerIndex the index of the answer
+     * @param game        the game
+     * @param timestamp   the end of the game (epoch millis)
+     * @return the record
+     */
+    public static GameRecord of(long playerId, int answerIndex, GameLogic game, long timestamp) {
+        List<GuessResult> history = game.getHistory();
+        int[] patterns = new int[history.size()];
+        for (int i = 0; i < patterns.length; i++) patterns[i] = history.get(i).getPattern();
+        return new GameRecord(playerId, answerIndex, game.getSettings().getWordLength(), patterns, timestamp);
+    }
+
+    /**
+     * Get the packed feedback of each guess
+     *
+     * @return the patterns (copy)
+     */
+    public int[] getPatterns() {
+        return patterns.clone();
+    }
+
+    /**
+     * Get the number of guesses
+     *
+     * @return the number of guesses
+     */
+    public int getGuessCount() {
+        return patterns.length;
+    }
+
+    /**
+     * Check if the game is won (the last guess is all green)
+     *
+     * @return true if the game is won
+     */
+    public boolean isWon() {
+        return patterns.length > 0 && patterns[patterns.length - 1] == FeedbackPattern.allCorrect(wordLength);
+    }
+
+    /**
+     * Get the size of the encoded record
+     *
+     * @return the size in bytes
+     */
+    int encodedSize() {
+        return Integer.BYTES + FIXED_PAYLOAD_SIZE + patterns.length * Short.BYTES + Integer.BYTES;
+    }
+
+    /**
+     * Write the record at the position of a buffer
+     *
+     * @param buffer the buffer
+     */
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(FIXED_PAYLOAD_SIZE + patterns.length * Short.BYTES)
+                .putLong(playerId)
+                .putLong(timestamp)
+                .putInt(answerIndex)
+                .put((byte) wordLength)
+                .put((byte) patterns.length);
+        for (int pattern : patterns) buffer.putShort((short) pattern);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start + Integer.BYTES).limit(buffer.position()));
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Read the record at the position of a buffer
+     *
+     * @param buffer the buffer
+     * @return the record, or null if the buffer ends with an incomplete or corrupted record (the position is unchanged)
+     */
+    static GameRecord readFrom(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < Integer.BYTES + FIXED_PAYLOAD_SIZE + Integer.BYTES) return null;
+
+        int length = buffer.getInt(start);
+        if (length < FIXED_PAYLOAD_SIZE || length > MAX_SIZE || buffer.remaining() < Integer.BYTES + length + Integer.BYTES) return null;
+
+        /*
+         * Check the payload (a torn write at the end of a segment)
+         */
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start + Integer.BYTES).limit(start + Integer.BYTES + length));
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES + length)) return null;
+
+        buffer.position(start + Integer.BYTES);
+        long playerId = buffer.getLong();
+        long timestamp = buffer.getLong();
+        int answerIndex = buffer.getInt();
+        int wordLength = buffer.get();
+        int[] patterns = new int[buffer.get()];
+        if (length != FIXED_PAYLOAD_SIZE + patterns.length * Short.BYTES) {
+            buffer.position(start);
+            return null;
+        }
+        for (int i = 0; i < patterns.length; i++) patterns[i] = Short.toUnsignedInt(buffer.getShort());
+        buffer.getInt();
+
+        return new GameRecord(playerId, answerIndex, wordLength, patterns, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "GameRecord{player=" + playerId + ", answer=" + answerIndex + ", patterns=" + Arrays.toString(patterns) + "}";
+    }
+}
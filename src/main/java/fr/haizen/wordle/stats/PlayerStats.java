@@ -0,0 +1,139 @@
+package fr.haizen.wordle.stats;
+
+import fr.haizen.wordle.objects.GameSettings;
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The statistics of a player: games, wins, streaks and guess distribution
+ * Updated by the stats store only, the instances given to the callers are copies
+ */
+@Getter
+public class PlayerStats {
+
+    /**
+     * The id of the player
+     */
+    private final long playerId;
+
+    /**
+     * The number of games played
+     */
+    private int games;
+
+    /**
+     * The number of games won
+     */
+    private int wins;
+
+    /**
+     * The number of games won in a row (up to the last game)
+     */
+    private int currentStreak;
+
+    /**
+     * The longest number of games won in a row
+     */
+    private int maxStreak;
+
+    /**
+     * The number of games won in n guesses, at index n - 1
+     */
+    private final int[] distribution;
+
+    /**
+     * Constructor (no game)
+     *
+     * @param playerId the id of the player
+     */
+    public PlayerStats(long playerId) {
+        this.playerId = playerId;
+        this.distribution = new int[GameSettings.MAX_ATTEMPTS];
+    }
+
+    /**
+     * Get the number of games won in n guesses
+     *
+     * @return the distribution (copy, index n - 1)
+     */
+    public int[] getDistribution() {
+        return distribution.clone();
+    }
+
+    /**
+     * Get the ratio of games won
+     *
+     * @return the win rate (between 0 and 1)
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Add a game (in the order of the games)
+     *
+     * @param record the record of the game
+     */
+    void add(GameRecord record) {
+        games++;
+        if (record.isWon()) {
+            wins++;
+            currentStreak++;
+            maxStreak = Math.max(maxStreak, currentStreak);
+            distribution[record.getGuessCount() - 1]++;
+        } else {
+            currentStreak = 0;
+        }
+    }
+
+    /**
+     * Copy the statistics
+     *
+     * @return the copy
+     */
+    PlayerStats copy() {
+        PlayerStats copy = new PlayerStats(playerId);
+        copy.games = games;
+        copy.wins = wins;
+        copy.currentStreak = currentStreak;
+        copy.maxStreak = maxStreak;
+        System.arraycopy(distribution, 0, copy.distribution, 0, distribution.length);
+        return copy;
+    }
+
+    /**
+     * Write the statistics (snapshot)
+     *
+     * @param output the output
+     * @throws IOException if the output can't be written
+     */
+    void writeTo(DataOutput output) throws IOException {
+        output.writeLong(playerId);
+        output.writeInt(games);
+        output.writeInt(wins);
+        output.writeInt(currentStreak);
+        output.writeInt(maxStreak);
+        for (int count : distribution) output.writeInt(count);
+    }
+
+    /**
+     * Read the statistics (snapshot)
+     *
+     * @param input the input
+     * @return the statistics
+     * @throws IOException if the input can't be read
+     */
+    static PlayerStats readFrom(DataInput input) throws IOException {
+        PlayerStats stats = new PlayerStats(input.readLong());
+        stats.games = input.readInt();
+        stats.wins = input.readInt();
+        stats.currentStreak = input.readInt();
+        stats.maxStreak = input.readInt();
+        for (int i = 0; i < stats.distribution.length; i++) stats.distribution[i] = input.readInt();
+        return stats;
+    }
+}
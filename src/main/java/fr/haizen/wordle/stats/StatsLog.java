@@ -0,0 +1,208 @@
+package fr.haizen.wordle.stats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class is the segmented append-only log of the game records (segment-000000.log, segment-000001.log...)
+ * A new segment is started when the current one is full, a position in the log is (segment, offset)
+ */
+class StatsLog implements Closeable {
+
+    /**
+     * The name of a segment file (segment number)
+     */
+    private static final String SEGMENT_FORMAT = "segment-%06d.log";
+
+    /**
+     * The directory of the segments
+     */
+    private final Path directory;
+
+    /**
+     * The maximum size of a segment
+     */
+    private final long segmentSize;
+
+    /**
+     * The buffer used to encode a record
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(GameRecord.MAX_SIZE);
+
+    /**
+     * The channel of the current segment (appending)
+     */
+    private FileChannel channel;
+
+    /**
+     * The number of the current segment
+     */
+    private int segment;
+
+    /**
+     * The size of the current segment
+     */
+    private long offset;
+
+    /**
+     * Constructor
+     *
+     * @param directory   the directory of the segments
+     * @param segmentSize the maximum size of a segment
+     */
+    StatsLog(Path directory, long segmentSize) {
+        if (segmentSize < GameRecord.MAX_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Read the records after a position, then open the last segment to append the next records
+     * An incomplete record at the end of the last segment (torn write) is truncated
+     *
+     * @param fromSegment the segment of the position
+     * @param fromOffset  the offset of the position in its segment
+     * @param consumer    the consumer of the records (in order)
+     * @return false if the position is not in the log (nothing is read)
+     * @throws IOException if a segment can't be read, or a segment other than the last one is corrupted
+     */
+    boolean recover(int fromSegment, long fromOffset, Consumer<GameRecord> consumer) throws IOException {
+        List<Integer> segments = segments();
+        int last = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+
+        /*
+         * Check the position (the log may have been deleted or truncated after the position was saved)
+         */
+        if (fromSegment != 0 || fromOffset != 0) {
+            Path file = segmentFile(fromSegment);
+            if (!segments.contains(fromSegment) || Files.size(file) < fromOffset) return false;
+        }
+
+        /*
+         * Read the segments from the position
+         */
+        for (int number : segments) {
+            if (number < fromSegment) continue;
+
+            ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(segmentFile(number)));
+            records.position(number == fromSegment ? (int) fromOffset : 0);
+
+            GameRecord record;
+            while ((record = GameRecord.readFrom(records)) != null) consumer.accept(record);
+
+            if (records.hasRemaining()) {
+                if (number != last) {
+                    throw new IOException("Corrupted stats segment: " + segmentFile(number));
+                }
+                try (FileChannel truncated = FileChannel.open(segmentFile(number), StandardOpenOption.WRITE)) {
+                    truncated.truncate(records.position());
+                }
+            }
+        }
+
+        /*
+         * Open the last segment (appending)
+         */
+        close();
+        segment = last;
+        channel = FileChannel.open(segmentFile(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        offset = channel.size();
+        channel.position(offset);
+        return true;
+    }
+
+    /**
+     * Append a record (a new segment is started if the current one is full)
+     *
+     * @param record the record
+     * @throws IOException if the record can't be written
+     */
+    void append(GameRecord record) throws IOException {
+        if (offset > 0 && offset + record.encodedSize() > segmentSize) {
+            channel.force(false);
+            channel.close();
+            segment++;
+            offset = 0;
+            channel = FileChannel.open(segmentFile(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        buffer.clear();
+        record.writeTo(buffer);
+        buffer.flip();
+        while (buffer.hasRemaining()) offset += channel.write(buffer);
+    }
+
+    /**
+     * Write the appended records to the storage device
+     *
+     * @throws IOException if the records can't be written
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Get the number of the current segment
+     *
+     * @return the segment
+     */
+    int segment() {
+        return segment;
+    }
+
+    /**
+     * Get the size of the current segment (the offset of the next record)
+     *
+     * @return the offset
+     */
+    long offset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Get the numbers of the segments in the directory
+     *
+     * @return the numbers (sorted)
+     * @throws IOException if the directory can't be listed
+     */
+    private List<Integer> segments() throws IOException {
+        List<Integer> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches("segment-\\d{6}\\.log"))
+                    .forEach(name -> segments.add(Integer.parseInt(name.substring(8, 14))));
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * Get the file of a segment
+     *
+     * @param number the number of the segment
+     * @return the file
+     */
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format(SEGMENT_FORMAT, number));
+    }
+}
@@ -0,0 +1,65 @@
+package fr.haizen.wordle.stats;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.event.GameListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The listener recording the outcome of a game in a stats store (see GameLogic.addListener)
+ */
+public class StatsRecorder implements GameListener {
+
+    /**
+     * The store of the statistics
+     */
+    private final StatsStore store;
+
+    /**
+     * The id of the player
+     */
+    private final long playerId;
+
+    /**
+     * The index of the answer (in the answers word list)
+     */
+    private final int answerIndex;
+
+    /**
+     * Constructor
+     *
+     * @param store       the store of the statistics
+     * @param playerId    the id of the player
+     * @param answerIndex the index of the answer
+     */
+    public StatsRecorder(StatsStore store, long playerId, int answerIndex) {
+        this.store = store;
+        this.playerId = playerId;
+        this.answerIndex = answerIndex;
+    }
+
+    @Override
+    public void gameWon(GameLogic game) {
+        record(game);
+    }
+
+    @Override
+    public void gameLost(GameLogic game) {
+        record(game);
+    }
+
+    /**
+     * Record the game
+     *
+     * @param game the game
+     */
+    private void record(GameLogic game) {
+        try {
+            store.record(GameRecord.of(playerId, answerIndex, game, System.currentTimeMillis()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't record the game", e);
+        }
+    }
+}
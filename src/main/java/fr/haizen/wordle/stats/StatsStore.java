@@ -0,0 +1,258 @@
+package fr.haizen.wordle.stats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class stores the statistics of the players and of the answers (thread safe)
+ * Each game record is appended to a segmented log (see StatsLog) and added to an in-memory aggregate
+ * The aggregate is saved in a snapshot file every n records: at startup the snapshot is loaded,
+ * and only the records appended after it are read again from the log
+ */
+public class StatsStore implements Closeable {
+
+    /**
+     * The default maximum size of a segment (16 MB)
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 16 << 20;
+
+    /**
+     * The default number of records between two snapshots
+     */
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10_000;
+
+    /**
+     * The name of the snapshot file
+     */
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    /**
+     * The magic number of a snapshot file ("WSTS")
+     */
+    private static final int MAGIC = 0x57535453;
+
+    /**
+     * The version of the snapshot format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The directory of the store
+     */
+    private final Path directory;
+
+    /**
+     * The log of the game records
+     */
+    private final StatsLog log;
+
+    /**
+     * The number of records between two snapshots
+     */
+    private final int snapshotInterval;
+
+    /**
+     * The statistics of each player
+     */
+    private final Map<Long, PlayerStats> players = new HashMap<>();
+
+    /**
+     * The statistics of each answer
+     */
+    private final Map<Integer, WordStats> words = new HashMap<>();
+
+    /**
+     * The number of records since the last snapshot
+     */
+    private int recordsSinceSnapshot;
+
+    /**
+     * Constructor
+     *
+     * @param directory        the directory of the store
+     * @param segmentSize      the maximum size of a segment
+     * @param snapshotInterval the number of records between two snapshots
+     */
+    private StatsStore(Path directory, long segmentSize, int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("The snapshot interval must be positive");
+        }
+        this.directory = directory;
+        this.log = new StatsLog(directory, segmentSize);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Open a store (created if needed), with the default segment size and snapshot interval
+     *
+     * @param directory the directory of the store
+     * @return the store
+     * @throws IOException if the store can't be read
+     */
+    public static StatsStore open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Open a store (created if needed): load the snapshot and read the records appended after it
+     *
+     * @param directory        the directory of the store
+     * @param segmentSize      the maximum size of a segment
+     * @param snapshotInterval the number of records between two snapshots
+     * @return the store
+     * @throws IOException if the store can't be read
+     */
+    public static StatsStore open(Path directory, long segmentSize, int snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+        StatsStore store = new StatsStore(directory, segmentSize, snapshotInterval);
+
+        /*
+         * Without a snapshot matching the log, the aggregate is rebuilt from the whole log
+         */
+        long[] position = store.readSnapshot();
+        if (position == null || !store.log.recover((int) position[0], position[1], store::apply)) {
+            store.players.clear();
+            store.words.clear();
+            store.log.recover(0, 0, store::apply);
+        }
+        return store;
+    }
+
+    /**
+     * Record a finished game
+     *
+     * @param record the record of the game
+     * @throws IOException if the record can't be written
+     */
+    public synchronized void record(GameRecord record) throws IOException {
+        log.append(record);
+        apply(record);
+
+        if (++recordsSinceSnapshot >= snapshotInterval) snapshot();
+    }
+
+    /**
+     * Get the statistics of a player
+     *
+     * @param playerId the id of the player
+     * @return the statistics (copy, empty if the player has no game)
+     */
+    public synchronized PlayerStats player(long playerId) {
+        PlayerStats stats = players.get(playerId);
+        return stats == null ? new PlayerStats(playerId) : stats.copy();
+    }
+
+    /**
+     * Get the statistics of an answer
+     *
+     * @param answerIndex the index of the answer
+     * @return the statistics (copy, empty if the answer has no game)
+     */
+    public synchronized WordStats word(int answerIndex) {
+        WordStats stats = words.get(answerIndex);
+        return stats == null ? new WordStats(answerIndex) : stats.copy();
+    }
+
+    /**
+     * Get the number of players
+     *
+     * @return the number of players
+     */
+    public synchronized int playerCount() {
+        return players.size();
+    }
+
+    /**
+     * Save the aggregate and its position in the log (the log is written to the storage device first)
+     * The snapshot is written to a temporary file, then moved over the previous one
+     *
+     * @throws IOException if the snapshot can't be written
+     */
+    public synchronized void snapshot() throws IOException {
+        log.force();
+
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(log.segment());
+            output.writeLong(log.offset());
+
+            output.writeInt(players.size());
+            for (PlayerStats stats : players.values()) stats.writeTo(output);
+            output.writeInt(words.size());
+            for (WordStats stats : words.values()) stats.writeTo(output);
+        }
+
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Save a snapshot and close the log
+     *
+     * @throws IOException if the snapshot can't be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            snapshot();
+        } finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Add a record to the aggregate
+     *
+     * @param record the record
+     */
+    private void apply(GameRecord record) {
+        players.computeIfAbsent(record.getPlayerId(), PlayerStats::new).add(record);
+        words.computeIfAbsent(record.getAnswerIndex(), WordStats::new).add(record);
+    }
+
+    /**
+     * Load the snapshot into the aggregate
+     *
+     * @return the position of the snapshot in the log (segment, offset), or null without a valid snapshot
+     */
+    private long[] readSnapshot() {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) return null;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) return null;
+            long[] position = {input.readInt(), input.readLong()};
+
+            int playerCount = input.readInt();
+            for (int i = 0; i < playerCount; i++) {
+                PlayerStats stats = PlayerStats.readFrom(input);
+                players.put(stats.getPlayerId(), stats);
+            }
+            int wordCount = input.readInt();
+            for (int i = 0; i < wordCount; i++) {
+                WordStats stats = WordStats.readFrom(input);
+                words.put(stats.getAnswerIndex(), stats);
+            }
+            return position;
+        } catch (IOException e) {
+            /*
+             * A corrupted snapshot is ignored (the aggregate is rebuilt from the log)
+             */
+            players.clear();
+            words.clear();
+            return null;
+        }
+    }
+}
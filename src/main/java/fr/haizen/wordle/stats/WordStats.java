@@ -0,0 +1,108 @@
+package fr.haizen.wordle.stats;
+
+import lombok.Getter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The statistics of an answer: games, wins and guesses of the games won
+ * Updated by the stats store only, the instances given to the callers are copies
+ */
+@Getter
+public class WordStats {
+
+    /**
+     * The index of the answer (in the answers word list)
+     */
+    private final int answerIndex;
+
+    /**
+     * The number of games played
+     */
+    private int games;
+
+    /**
+     * The number of games won
+     */
+    private int wins;
+
+    /**
+     * The total number of guesses of the games won
+     */
+    private long winningGuesses;
+
+    /**
+     * Constructor (no game)
+     *
+     * @param answerIndex the index of the answer
+     */
+    public WordStats(int answerIndex) {
+        this.answerIndex = answerIndex;
+    }
+
+    /**
+     * Get the average number of guesses of the games won
+     *
+     * @return the average number of guesses
+     */
+    public double getAverageGuesses() {
+        return wins == 0 ? 0 : (double) winningGuesses / wins;
+    }
+
+    /**
+     * Add a game
+     *
+     * @param record the record of the game
+     */
+    void add(GameRecord record) {
+        games++;
+        if (record.isWon()) {
+            wins++;
+            winningGuesses += record.getGuessCount();
+        }
+    }
+
+    /**
+     * Copy the statistics
+     *
+     * @return the copy
+     */
+    WordStats copy() {
+        WordStats copy = new WordStats(answerIndex);
+        copy.games = games;
+        copy.wins = wins;
+        copy.winningGuesses = winningGuesses;
+        return copy;
+    }
+
+    /**
+     * Write the statistics (snapshot)
+     *
+     * @param output the output
+     * @throws IOException if the output can't be written
+     */
+    void writeTo(DataOutput output) throws IOException {
+        output.writeInt(answerIndex);
+        output.writeInt(games);
+        output.writeInt(wins);
+        output.writeLong(winningGuesses);
+    }
+
+    /**
+     * Read the statistics (snapshot)
+     *
+     * @param input the input
+     * @return the statistics
+     * @throws IOException if the input can't be read
+     */
+    static WordStats readFrom(DataInput input) throws IOException {
+        WordStats stats = new WordStats(input.readInt());
+        stats.games = input.readInt();
+        stats.wins = input.readInt();
+        stats.winningGuesses = input.readLong();
+        return stats;
+    }
+}
@@ -0,0 +1,124 @@
+package fr.haizen.wordle.utils;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class packs a word in a long, 5 bits per letter ('a' = 1 ... 'z' = 26, case insensitive)
+ * The first letter is stored in the lowest bits, only ASCII letters can be packed
+ */
+public final class WordCodec {
+
+    /**
+     * The number of bits of a letter
+     */
+    public static final int BITS_PER_LETTER = 5;
+
+    /**
+     * The mask of a letter
+     */
+    public static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+
+    /**
+     * The max length of a packed word (12 letters in 60 bits)
+     */
+    public static final int MAX_LENGTH = 12;
+
+    /**
+     * The value returned when a word can't be packed
+     */
+    public static final long INVALID = -1L;
+
+    private WordCodec() {
+    }
+
+    /**
+     * Get the code of a letter
+     *
+     * @param c the character
+     * @return the code (1 - 26), 0 if the character is not an ASCII letter
+     */
+    public static int letterCode(int c) {
+        int code = (c | 0x20) - 'a' + 1;
+        return code >= 1 && code <= 26 ? code : 0;
+    }
+
+    /**
+     * Pack a word
+     *
+     * @param word the word
+     * @return the packed word, INVALID if the word is too long or has a non ASCII letter
+     */
+    public static long pack(CharSequence word) {
+        int length = word.length();
+        if (length > MAX_LENGTH) return INVALID;
+
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int code = letterCode(word.charAt(i));
+            if (code == 0) return INVALID;
+            packed |= (long) code << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Pack a word
+     *
+     * @param word the word
+     * @return the packed word, INVALID if the word is too long or has a non ASCII letter
+     */
+    public static long pack(char[] word) {
+        if (word.length > MAX_LENGTH) return INVALID;
+
+        long packed = 0;
+        for (int i = 0; i < word.length; i++) {
+            int code = letterCode(word[i]);
+            if (code == 0) return INVALID;
+            packed |= (long) code << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Pack a word written in ASCII bytes
+     *
+     * @param word the word
+     * @return the packed word, INVALID if the word is too long or has a non letter byte
+     */
+    public static long pack(byte[] word) {
+        if (word.length > MAX_LENGTH) return INVALID;
+
+        long packed = 0;
+        for (int i = 0; i < word.length; i++) {
+            int code = letterCode(word[i] & 0xFF);
+            if (code == 0) return INVALID;
+            packed |= (long) code << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Get the code of a letter of a packed word
+     *
+     * @param packed   the packed word
+     * @param position the letter position
+     * @return the code (1 - 26)
+     */
+    public static int letterAt(long packed, int position) {
+        return (int) (packed >>> (position * BITS_PER_LETTER)) & LETTER_MASK;
+    }
+
+    /**
+     * Unpack a word (lower case)
+     *
+     * @param packed the packed word
+     * @param length the length of the word
+     * @return the word
+     */
+    public static String unpack(long packed, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' - 1 + letterAt(packed, i));
+        }
+        return new String(letters);
+    }
+}
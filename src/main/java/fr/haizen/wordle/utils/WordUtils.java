@@ -1,14 +1,19 @@
 package fr.haizen.wordle.utils;
 
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.dictionary.WordSet;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.objects.Word;
+
 public class WordUtils {
 
     /**
-     * The max length of the word to guess
+     * The length of the word to guess (default settings, see GameSettings)
      */
     public static final int WORD_LENGTH = 5;
 
     /**
-     * The max attempts to guess the word
+     * The max attempts to guess the word (default settings, see GameSettings)
      */
     public static final int MAX_ATTEMPTS = 6;
 
@@ -25,25 +30,134 @@ public class WordUtils {
     };
 
     /**
-     * Check if a word is valid (5 letters)
+     * The words of the dictionary (no dictionary check if null)
+     */
+    private static volatile WordSet dictionary;
+
+    /**
+     * Set the word lists a valid word must belong to (answers, allowed guesses...)
+     *
+     * @param wordLists the word lists (none to accept every word)
+     */
+    public static void setDictionary(WordList... wordLists) {
+        dictionary = wordLists.length == 0 ? null : WordSet.of(wordLists);
+    }
+
+    /**
+     * Set the words a valid word must belong to
+     *
+     * @param words the words (null to accept every word)
+     */
+    public static void setDictionary(WordSet words) {
+        dictionary = words;
+    }
+
+    /**
+     * Check if the games of a word length can be played: any length without dictionary,
+     * else the dictionary must have words of this length (else every word of this length would be rejected)
+     *
+     * @param length the length of the words
+     * @return true if the words of this length can be valid
+     */
+    public static boolean isPlayableLength(int length) {
+        WordSet words = dictionary;
+        return words == null || words.hasLength(length);
+    }
+
+    /**
+     * Check if a word is valid (5 letters, in the dictionary if there is one)
      *
      * @param word the word to check
      * @return true if the word is valid
      */
     public static boolean isValidWord(String word) {
-        /*
-         * Check if the string is null
-         */
-        if (word == null) return false;
+        return isValidWord(word, WORD_LENGTH);
+    }
 
+    /**
+     * Check if a word is valid (length letters, in the dictionary if there is one)
+     *
+     * @param word   the word to check
+     * @param length the length of the word
+     * @return true if the word is valid
+     */
+    public static boolean isValidWord(String word, int length) {
         /*
-         * Check if the word has the correct length
+         * Check if the string is null, if the word has the correct length and only letters (packed once)
          */
-        if (word.length() != WORD_LENGTH) return false;
+        long packed = word == null || word.length() != length ? WordCodec.INVALID : WordCodec.pack(word);
+        if (packed != WordCodec.INVALID || word == null || word.length() != length) return isValidWord(packed, length);
 
         /*
-         * Check if the word contains only letters
+         * The other letters (accents...) can't be packed, they are checked one by one (slower generic path)
          */
-        return word.chars().allMatch(Character::isLetter);
+        MetricsRegistry metrics = MetricsRegistry.current();
+        long start = metrics.startTimer();
+        boolean valid = isLetters(word) && inDictionary(word);
+        metrics.wordValidated(start);
+        return valid;
+    }
+
+    /**
+     * Check if a word is valid (length letters, in the dictionary if there is one)
+     *
+     * @param word   the word to check
+     * @param length the length of the word
+     * @return true if the word is valid
+     */
+    public static boolean isValidWord(Word word, int length) {
+        return isValidWord(word == null || word.length() != length ? WordCodec.INVALID : word.packed(), length);
+    }
+
+    /**
+     * Check if a packed word is valid (in the dictionary if there is one)
+     *
+     * @param packed the packed word (see WordCodec, INVALID is never valid)
+     * @param length the length of the word
+     * @return true if the word is valid
+     */
+    public static boolean isValidWord(long packed, int length) {
+        MetricsRegistry metrics = MetricsRegistry.current();
+        long start = metrics.startTimer();
+        boolean valid = packed != WordCodec.INVALID && inDictionary(packed, length);
+        metrics.wordValidated(start);
+        return valid;
+    }
+
+    /**
+     * Check if a word only contains letters (any alphabet)
+     *
+     * @param word the word
+     * @return true if every character is a letter
+     */
+    private static boolean isLetters(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isLetter(word.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if a word that can't be packed is in the dictionary
+     *
+     * @param word the word
+     * @return true if there is no dictionary or the word is in it
+     */
+    private static boolean inDictionary(String word) {
+        WordSet words = dictionary;
+        return words == null || words.contains(word);
+    }
+
+    /**
+     * Check if a packed word is in the dictionary (constant time lookup for 5 letters)
+     *
+     * @param packed the packed word
+     * @param length the length of the word
+     * @return true if there is no dictionary or the word is in it
+     */
+    private static boolean inDictionary(long packed, int length) {
+        WordSet words = dictionary;
+        if (words == null) return true;
+        return length == WORD_LENGTH ? words.contains((int) packed) : words.contains(WordCodec.unpack(packed, length));
     }
-} 
\ No newline at end of file
+}
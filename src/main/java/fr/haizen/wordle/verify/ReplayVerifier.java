@@ -0,0 +1,384 @@
+package fr.haizen.wordle.verify;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.daily.DailyWordScheduler;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class replays submitted games with the game rules (GameLogic.score) and flags the ones that don't match
+ *
+ * Input: one game per line, the game then each row as guess:feedback, separated by spaces
+ * (feedback: one letter per position, G green, Y yellow, W white), for example "42 slate:WWGWG crane:GGGGG"
+ * The game is the index of its answer in the answers, or the day of a daily game (2026-10-18): the answer is looked up
+ * here, never read from the submission
+ * Output: one line per flagged game, "line number, verdict, game" separated by tabs
+ *
+ * The lines are read by chunks, each chunk is verified on a fork-join pool while the next one is read
+ */
+public class ReplayVerifier {
+
+    /**
+     * The number of games read at once
+     */
+    private static final int GAMES_PER_CHUNK = 1 << 16;
+
+    /**
+     * The number of games verified by a single fork-join task
+     */
+    private static final int GAMES_PER_TASK = 1024;
+
+    /**
+     * The length of a day id (ISO format: 2026-10-18)
+     */
+    private static final int DATE_LENGTH = 10;
+
+    /**
+     * The max number of digits of an answer index (no overflow)
+     */
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    /**
+     * The index of a game id which can't be read
+     */
+    private static final int MALFORMED_GAME = Integer.MIN_VALUE;
+
+    /**
+     * The index of a game id which is not a known game
+     */
+    private static final int UNKNOWN_INDEX = -1;
+
+    /**
+     * The pool used to verify the games
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The possible answers
+     */
+    private final WordList answers;
+
+    /**
+     * The answers of the daily games (null if the games are identified by answer index only)
+     */
+    private final DailyWordScheduler daily;
+
+    /**
+     * The number of attempts of a game
+     */
+    private final int maxAttempts;
+
+    /**
+     * Constructor (games identified by answer index only)
+     *
+     * @param pool        the pool used to verify the games
+     * @param answers     the possible answers
+     * @param maxAttempts the number of attempts of a game
+     */
+    public ReplayVerifier(ForkJoinPool pool, WordList answers, int maxAttempts) {
+        this(pool, answers, null, maxAttempts);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param pool        the pool used to verify the games
+     * @param answers     the possible answers
+     * @param daily       the answers of the daily games, built on the same answers (null for none)
+     * @param maxAttempts the number of attempts of a game
+     */
+    public ReplayVerifier(ForkJoinPool pool, WordList answers, DailyWordScheduler daily, int maxAttempts) {
+        if (maxAttempts < 1 || maxAttempts > GameSettings.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("The attempts must be between 1 and " + GameSettings.MAX_ATTEMPTS + ": " + maxAttempts);
+        }
+        if (answers.size() == 0) {
+            throw new IllegalArgumentException("No answer to verify");
+        }
+        this.pool = pool;
+        this.answers = answers;
+        this.daily = daily;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Verify a stream of games and write the flagged ones
+     *
+     * @param input   the games (one per line)
+     * @param flagged the output of the flagged games
+     * @return the number of games of each verdict
+     * @throws IOException if the stream can't be read or written
+     */
+    public VerificationReport verify(Reader input, Writer flagged) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input, 1 << 16);
+        long[] counts = new long[Verdict.values().length];
+
+        /*
+         * Two chunks: one verified by the pool, the other one filled by this thread
+         */
+        Chunk current = new Chunk(), next = new Chunk();
+        long firstLine = 1;
+        current.fill(reader);
+
+        while (current.size > 0) {
+            ForkJoinTask<Void> task = pool.submit(new VerifyTask(current, 0, current.size));
+            next.fill(reader);
+            task.join();
+
+            /*
+             * Count the verdicts and write the flagged games (in order)
+             */
+            for (int i = 0; i < current.size; i++) {
+                Verdict verdict = current.verdicts[i];
+                counts[verdict.ordinal()]++;
+                if (verdict != Verdict.VALID) {
+                    flagged.write(Long.toString(firstLine + i));
+                    flagged.write('\t');
+                    flagged.write(verdict.name());
+                    flagged.write('\t');
+                    flagged.write(current.lines[i]);
+                    flagged.write('\n');
+                }
+            }
+
+            firstLine += current.size;
+            Chunk verified = current;
+            current = next;
+            next = verified;
+        }
+
+        flagged.flush();
+        return new VerificationReport(counts, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Verify a single game
+     *
+     * @param line the game (see the class documentation for the format)
+     * @return the verdict (the first problem found)
+     */
+    public Verdict verify(String line) {
+        int end = line.length();
+        int position = skipSpaces(line, 0);
+
+        /*
+         * The answer of the game is looked up from its id (the submission can't choose it)
+         */
+        int gameEnd = tokenEnd(line, position);
+        if (gameEnd == position) return Verdict.MALFORMED;
+        int answerIndex = answerIndex(line, position, gameEnd);
+        if (answerIndex == MALFORMED_GAME) return Verdict.MALFORMED;
+        if (answerIndex < 0 || answerIndex >= answers.size()) return Verdict.UNKNOWN_GAME;
+        long answer = answers.packed(answerIndex);
+        int length = WordList.RECORD_SIZE;
+
+        int rows = 0;
+        boolean won = false;
+        position = skipSpaces(line, gameEnd);
+
+        while (position < end) {
+            /*
+             * A row is guess:feedback, both of the length of the answer
+             */
+            int rowEnd = tokenEnd(line, position);
+            if (rowEnd - position != 2 * length + 1 || line.charAt(position + length) != ':') return Verdict.MALFORMED;
+            long guess = pack(line, position, length);
+            int pattern = parsePattern(line, position + length + 1, length);
+            if (guess == WordCodec.INVALID || pattern < 0) return Verdict.MALFORMED;
+
+            if (won) return Verdict.GUESS_AFTER_WIN;
+            if (rows == maxAttempts) return Verdict.TOO_MANY_GUESSES;
+            if (!WordUtils.isValidWord(guess, length)) return Verdict.INVALID_WORD;
+            if (GameLogic.score(guess, answer, length) != pattern) return Verdict.FEEDBACK_MISMATCH;
+
+            won = pattern == FeedbackPattern.allCorrect(length);
+            rows++;
+            position = skipSpaces(line, rowEnd);
+        }
+
+        if (rows == 0) return Verdict.MALFORMED;
+        return won || rows == maxAttempts ? Verdict.VALID : Verdict.INCOMPLETE;
+    }
+
+    /**
+     * Get the index of the answer of a game id (answer index, or day of a daily game)
+     *
+     * @param line the line
+     * @param from the first character of the id
+     * @param to   the end of the id
+     * @return the index of the answer (may be out of the answers), MALFORMED_GAME if the id can't be read
+     */
+    private int answerIndex(String line, int from, int to) {
+        if (to - from == DATE_LENGTH && line.charAt(from + 4) == '-') {
+            if (daily == null) return UNKNOWN_INDEX;
+            try {
+                return daily.answerIndex(LocalDate.parse(line.subSequence(from, to)));
+            } catch (DateTimeParseException e) {
+                return MALFORMED_GAME;
+            }
+        }
+
+        if (to - from > MAX_INDEX_DIGITS) return UNKNOWN_INDEX;
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char digit = line.charAt(i);
+            if (digit < '0' || digit > '9') return MALFORMED_GAME;
+            index = index * 10 + (digit - '0');
+        }
+        return index;
+    }
+
+    /**
+     * Pack a word of a line
+     *
+     * @param line   the line
+     * @param from   the first letter
+     * @param length the length of the word
+     * @return the packed word, INVALID if a character is not an ASCII letter
+     */
+    private static long pack(String line, int from, int length) {
+        long packed = 0;
+        for (int i = 0; i < length; i++) {
+            int code = WordCodec.letterCode(line.charAt(from + i));
+            if (code == 0) return WordCodec.INVALID;
+            packed |= (long) code << (i * WordCodec.BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Parse a submitted feedback (G green, Y yellow, W white, case insensitive)
+     *
+     * @param line   the line
+     * @param from   the first letter of the feedback
+     * @param length the length of the feedback
+     * @return the pattern (see FeedbackPattern), -1 if a character is not a feedback
+     */
+    private static int parsePattern(String line, int from, int length) {
+        int pattern = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = switch (line.charAt(from + i)) {
+                case 'G', 'g' -> 2;
+                case 'Y', 'y' -> 1;
+                case 'W', 'w' -> 0;
+                default -> -1;
+            };
+            if (digit < 0) return -1;
+            pattern += digit * FeedbackPattern.weight(i);
+        }
+        return pattern;
+    }
+
+    private static int skipSpaces(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) position++;
+        return position;
+    }
+
+    private static int tokenEnd(String line, int position) {
+        while (position < line.length() && !Character.isWhitespace(line.charAt(position))) position++;
+        return position;
+    }
+
+    /**
+     * A chunk of lines and their verdicts
+     */
+    private static class Chunk {
+
+        private final String[] lines = new String[GAMES_PER_CHUNK];
+        private final Verdict[] verdicts = new Verdict[GAMES_PER_CHUNK];
+        private int size;
+
+        /**
+         * Read the next lines (the chunk is empty at the end of the stream)
+         *
+         * @param reader the reader
+         * @throws IOException if the stream can't be read
+         */
+        void fill(BufferedReader reader) throws IOException {
+            size = 0;
+            String line;
+            while (size < lines.length && (line = reader.readLine()) != null) lines[size++] = line;
+        }
+    }
+
+    /**
+     * The task verifying a range of a chunk (split in two until the range is small enough)
+     */
+    @SuppressWarnings("serial")
+    private class VerifyTask extends RecursiveAction {
+
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+
+        VerifyTask(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) chunk.verdicts[i] = verify(chunk.lines[i]);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyTask(chunk, from, middle), new VerifyTask(chunk, middle, to));
+        }
+    }
+
+    /**
+     * Main method
+     *
+     * @param args the arguments: games file (- for the standard input), attempts, answers file, [allowed guesses files...]
+     * @throws IOException if a file can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: <games file|-> <attempts> <answers file> [allowed guesses files...]");
+        }
+        String source = args[0];
+        int attempts = Integer.parseInt(args[1]);
+        WordList answers = WordList.load(Path.of(args[2]));
+
+        /*
+         * The allowed guesses (the dictionary of the valid words), the answers are always allowed
+         */
+        WordList[] allowed = new WordList[args.length - 2];
+        allowed[0] = answers;
+        for (int i = 3; i < args.length; i++) allowed[i - 2] = WordList.load(Path.of(args[i]));
+        WordUtils.setDictionary(allowed);
+
+        DailyWordScheduler daily = new DailyWordScheduler(answers, DailyWordScheduler.DEFAULT_SEED, 7, ForkJoinPool.commonPool());
+        ReplayVerifier verifier = new ReplayVerifier(ForkJoinPool.commonPool(), answers, daily, attempts);
+        Writer flagged = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        try (Reader input = source.equals("-")
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Path.of(source), StandardCharsets.UTF_8)) {
+            System.err.print(verifier.verify(input, flagged));
+        }
+    }
+}
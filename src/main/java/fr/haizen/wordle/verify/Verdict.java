@@ -0,0 +1,48 @@
+package fr.haizen.wordle.verify;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This enum defines the result of the verification of a submitted game
+ */
+public enum Verdict {
+
+    /**
+     * Every row matches the game rules
+     */
+    VALID,
+
+    /**
+     * The line can't be read (see ReplayVerifier for the format)
+     */
+    MALFORMED,
+
+    /**
+     * The game id is neither the index of an answer nor a day of the daily games
+     */
+    UNKNOWN_GAME,
+
+    /**
+     * A guess is not a valid word
+     */
+    INVALID_WORD,
+
+    /**
+     * The submitted feedback of a row is not the feedback of the answer
+     */
+    FEEDBACK_MISMATCH,
+
+    /**
+     * A row was played after the winning row
+     */
+    GUESS_AFTER_WIN,
+
+    /**
+     * More rows than the number of attempts
+     */
+    TOO_MANY_GUESSES,
+
+    /**
+     * The game is neither won nor out of attempts
+     */
+    INCOMPLETE
+}
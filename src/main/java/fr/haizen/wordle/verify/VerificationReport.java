@@ -0,0 +1,76 @@
+package fr.haizen.wordle.verify;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The results of a verification (immutable)
+ */
+@Getter
+@AllArgsConstructor
+public class VerificationReport {
+
+    /**
+     * The number of games of each verdict, at index verdict.ordinal()
+     */
+    private final long[] counts;
+
+    /**
+     * The duration of the verification
+     */
+    private final Duration elapsed;
+
+    /**
+     * Get the number of games of a verdict
+     *
+     * @param verdict the verdict
+     * @return the number of games
+     */
+    public long getCount(Verdict verdict) {
+        return counts[verdict.ordinal()];
+    }
+
+    /**
+     * Get the number of games verified
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        long games = 0;
+        for (long count : counts) games += count;
+        return games;
+    }
+
+    /**
+     * Get the number of games flagged (not valid)
+     *
+     * @return the number of games
+     */
+    public long getFlagged() {
+        return getGames() - getCount(Verdict.VALID);
+    }
+
+    /**
+     * Get the number of games verified per second
+     *
+     * @return the throughput
+     */
+    public double getGamesPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return getGames() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(256)
+                .append(String.format("Games: %d (%.0f games/s)%n", getGames(), getGamesPerSecond()))
+                .append(String.format("Flagged: %d%n", getFlagged()));
+        for (Verdict verdict : Verdict.values()) {
+            report.append(String.format("  %s: %d%n", verdict, getCount(verdict)));
+        }
+        return report.toString();
+    }
+}
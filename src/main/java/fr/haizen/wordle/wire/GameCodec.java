@@ -0,0 +1,336 @@
+package fr.haizen.wordle.wire;
+
+import fr.haizen.wordle.GameLogic;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class writes and reads a whole 5-letter game in a compact binary frame (network responses, persistence, replay files)
+ *
+ * Format: version (byte), target id (int, -1 if hidden), max attempts (4 high bits) and guess count (4 low bits) in a byte,
+ * the guesses as 25-bit packed words (see WordCodec) written one after the other from the lowest bit, padded to a byte,
+ * then one byte per guess for its feedback (base-3 pattern, see FeedbackPattern)
+ * A game of 6 guesses takes 31 bytes
+ *
+ * The frames are written and read directly in the buffer (absolute reads at the offset of the frame), without any object:
+ * a frame can also be started (startFrame) then filled guess by guess (putGuess) from the packed state of a game
+ */
+public final class GameCodec {
+
+    /**
+     * The version of the format
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The target id of a game whose word is hidden (game not over)
+     */
+    public static final int HIDDEN_TARGET = -1;
+
+    /**
+     * The size of a frame without the guesses (version, target id, attempts and count)
+     */
+    public static final int HEADER_SIZE = 1 + Integer.BYTES + 1;
+
+    /**
+     * The number of bits of a guess
+     */
+    private static final int BITS_PER_GUESS = WordUtils.WORD_LENGTH * WordCodec.BITS_PER_LETTER;
+
+    /**
+     * The mask of a guess
+     */
+    private static final long GUESS_MASK = (1L << BITS_PER_GUESS) - 1;
+
+    /**
+     * The max size of a frame (the max attempts of a game)
+     */
+    public static final int MAX_SIZE = encodedSize(GameSettings.MAX_ATTEMPTS);
+
+    private GameCodec() {
+    }
+
+    /**
+     * Get the size of a frame
+     *
+     * @param guessCount the number of guesses
+     * @return the size in bytes
+     */
+    public static int encodedSize(int guessCount) {
+        return HEADER_SIZE + guessBytes(guessCount) + guessCount;
+    }
+
+    /**
+     * Write a game at the position of a buffer (the position is moved after the frame)
+     *
+     * @param buffer      the buffer
+     * @param targetId    the id of the word to guess (HIDDEN_TARGET if it is hidden)
+     * @param maxAttempts the number of attempts of the game
+     * @param guesses     the packed guesses (5 letters, see WordCodec)
+     * @param patterns    the packed feedback of each guess (see FeedbackPattern)
+     * @param guessCount  the number of guesses
+     * @return the size of the frame
+     * @throws BufferOverflowException if the frame doesn't fit in the buffer (nothing is written)
+     */
+    public static int encode(ByteBuffer buffer, int targetId, int maxAttempts, int[] guesses, int[] patterns, int guessCount) {
+        checkAttempts(maxAttempts, guessCount);
+        for (int i = 0; i < guessCount; i++) checkGuess(guesses[i], patterns[i], i);
+
+        int offset = startFrame(buffer, targetId, maxAttempts, guessCount);
+        for (int i = 0; i < guessCount; i++) putGuess(buffer, offset, i, guesses[i], patterns[i]);
+        return encodedSize(guessCount);
+    }
+
+    /**
+     * Write a 5-letter game at the position of a buffer (the position is moved after the frame)
+     * The guesses are written from the packed history of the game, without copy
+     *
+     * @param buffer   the buffer
+     * @param targetId the id of the word to guess (HIDDEN_TARGET if it is hidden)
+     * @param game     the game
+     * @return the size of the frame
+     * @throws BufferOverflowException if the frame doesn't fit in the buffer (nothing is written)
+     */
+    public static int encode(ByteBuffer buffer, int targetId, GameLogic game) {
+        if (game.getSettings().getWordLength() != WordUtils.WORD_LENGTH) {
+            throw new IllegalArgumentException("Only the games of " + WordUtils.WORD_LENGTH + " letters can be encoded");
+        }
+
+        List<GuessResult> history = game.getHistory();
+        int guessCount = history.size();
+        checkAttempts(game.getSettings().getMaxAttempts(), guessCount);
+        for (int i = 0; i < guessCount; i++) checkGuess(game.getPackedGuess(i), history.get(i).getPattern(), i);
+
+        int offset = startFrame(buffer, targetId, game.getSettings().getMaxAttempts(), guessCount);
+        for (int i = 0; i < guessCount; i++) putGuess(buffer, offset, i, game.getPackedGuess(i), history.get(i).getPattern());
+        return encodedSize(guessCount);
+    }
+
+    /**
+     * Start a frame at the position of a buffer (the position is moved after the frame)
+     * The header is written and the guesses are left empty, each guess is then written with putGuess
+     *
+     * @param buffer      the buffer
+     * @param targetId    the id of the word to guess (HIDDEN_TARGET if it is hidden)
+     * @param maxAttempts the number of attempts of the game
+     * @param guessCount  the number of guesses
+     * @return the offset of the frame
+     * @throws BufferOverflowException if the frame doesn't fit in the buffer (nothing is written)
+     */
+    public static int startFrame(ByteBuffer buffer, int targetId, int maxAttempts, int guessCount) {
+        checkAttempts(maxAttempts, guessCount);
+
+        int size = encodedSize(guessCount);
+        if (buffer.remaining() < size) throw new BufferOverflowException();
+
+        int offset = buffer.position();
+        buffer.put((byte) VERSION).putInt(targetId).put((byte) (maxAttempts << 4 | guessCount));
+        for (int i = HEADER_SIZE; i < size; i++) buffer.put((byte) 0);
+        return offset;
+    }
+
+    /**
+     * Write a guess of a frame started with startFrame
+     *
+     * @param buffer  the buffer
+     * @param offset  the offset of the frame
+     * @param index   the index of the guess
+     * @param guess   the packed guess (5 letters, see WordCodec)
+     * @param pattern the packed feedback of the guess (see FeedbackPattern)
+     */
+    public static void putGuess(ByteBuffer buffer, int offset, int index, long guess, int pattern) {
+        int guessCount = guessCount(buffer, offset);
+        checkIndex(index, guessCount);
+        checkGuess(guess, pattern, index);
+
+        /*
+         * The 25 bits of the guess span 4 bytes at most, they are added to the bits of the neighbouring guesses
+         */
+        int bit = index * BITS_PER_GUESS;
+        int from = offset + HEADER_SIZE + (bit >>> 3);
+        int end = offset + HEADER_SIZE + guessBytes(guessCount);
+        long bits = guess << (bit & 7);
+        for (int i = 0; i < Integer.BYTES && from + i < end; i++) {
+            buffer.put(from + i, (byte) (buffer.get(from + i) | (bits >>> (i * Byte.SIZE))));
+        }
+        buffer.put(end + index, (byte) pattern);
+    }
+
+    /**
+     * Check the frame at an offset of a buffer
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return the size of the frame
+     * @throws BufferUnderflowException if the buffer ends before the end of the frame
+     * @throws IllegalArgumentException if the frame has another version or invalid attempts
+     */
+    public static int frameSize(ByteBuffer buffer, int offset) {
+        if (buffer.limit() - offset < HEADER_SIZE) throw new BufferUnderflowException();
+        if (buffer.get(offset) != VERSION) {
+            throw new IllegalArgumentException("Unknown game frame version: " + buffer.get(offset));
+        }
+
+        int guessCount = guessCount(buffer, offset);
+        int maxAttempts = maxAttempts(buffer, offset);
+        if (maxAttempts < 1 || guessCount > maxAttempts) {
+            throw new IllegalArgumentException("Invalid game frame: " + guessCount + " guesses / " + maxAttempts);
+        }
+
+        int size = encodedSize(guessCount);
+        if (buffer.limit() - offset < size) throw new BufferUnderflowException();
+        return size;
+    }
+
+    /**
+     * Get the id of the word to guess of a frame
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return the target id (HIDDEN_TARGET if it is hidden)
+     */
+    public static int targetId(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 1);
+    }
+
+    /**
+     * Get the number of attempts of the game of a frame
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return the max attempts
+     */
+    public static int maxAttempts(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset + HEADER_SIZE - 1) >>> 4) & 0xF;
+    }
+
+    /**
+     * Get the number of guesses of a frame
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return the guess count
+     */
+    public static int guessCount(ByteBuffer buffer, int offset) {
+        return buffer.get(offset + HEADER_SIZE - 1) & 0xF;
+    }
+
+    /**
+     * Get a guess of a frame
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @param index  the index of the guess
+     * @return the packed guess (see WordCodec)
+     * @throws IndexOutOfBoundsException if the frame has no guess at this index
+     */
+    public static int guess(ByteBuffer buffer, int offset, int index) {
+        int guessCount = guessCount(buffer, offset);
+        checkIndex(index, guessCount);
+
+        int bit = index * BITS_PER_GUESS;
+        int from = offset + HEADER_SIZE + (bit >>> 3);
+        int end = offset + HEADER_SIZE + guessBytes(guessCount);
+
+        /*
+         * A guess spans 4 or 5 bytes, from the lowest bit
+         */
+        long bits = 0;
+        for (int i = 0; i < 5 && from + i < end; i++) bits |= (buffer.get(from + i) & 0xFFL) << (i * Byte.SIZE);
+        return (int) ((bits >>> (bit & 7)) & GUESS_MASK);
+    }
+
+    /**
+     * Get the feedback of a guess of a frame
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @param index  the index of the guess
+     * @return the packed feedback (see FeedbackPattern)
+     * @throws IndexOutOfBoundsException if the frame has no guess at this index
+     */
+    public static int pattern(ByteBuffer buffer, int offset, int index) {
+        int guessCount = guessCount(buffer, offset);
+        checkIndex(index, guessCount);
+        return buffer.get(offset + HEADER_SIZE + guessBytes(guessCount) + index) & 0xFF;
+    }
+
+    /**
+     * Check if the game of a frame is won (the last guess is all green)
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return true if the game is won
+     */
+    public static boolean isWon(ByteBuffer buffer, int offset) {
+        int guessCount = guessCount(buffer, offset);
+        return guessCount > 0 && pattern(buffer, offset, guessCount - 1) == FeedbackPattern.ALL_CORRECT;
+    }
+
+    /**
+     * Check if the game of a frame is over (won or no remaining attempts)
+     *
+     * @param buffer the buffer
+     * @param offset the offset of the frame
+     * @return true if the game is over
+     */
+    public static boolean isGameOver(ByteBuffer buffer, int offset) {
+        return isWon(buffer, offset) || guessCount(buffer, offset) == maxAttempts(buffer, offset);
+    }
+
+    /**
+     * Check the attempts of a game
+     *
+     * @param maxAttempts the number of attempts of the game
+     * @param guessCount  the number of guesses
+     */
+    private static void checkAttempts(int maxAttempts, int guessCount) {
+        if (maxAttempts < 1 || maxAttempts > GameSettings.MAX_ATTEMPTS || guessCount < 0 || guessCount > maxAttempts) {
+            throw new IllegalArgumentException("Invalid attempts: " + guessCount + " / " + maxAttempts);
+        }
+    }
+
+    /**
+     * Check a guess and its feedback
+     *
+     * @param guess   the packed guess
+     * @param pattern the packed feedback
+     * @param index   the index of the guess
+     */
+    private static void checkGuess(long guess, int pattern, int index) {
+        if ((guess & ~GUESS_MASK) != 0 || guess == 0 || pattern < 0 || pattern >= FeedbackPattern.PATTERN_COUNT) {
+            throw new IllegalArgumentException("Invalid guess " + index);
+        }
+    }
+
+    /**
+     * Check the index of a guess of a frame
+     *
+     * @param index      the index of the guess
+     * @param guessCount the number of guesses of the frame
+     */
+    private static void checkIndex(int index, int guessCount) {
+        if (index < 0 || index >= guessCount) {
+            throw new IndexOutOfBoundsException("Guess index " + index + ", guess count " + guessCount);
+        }
+    }
+
+    /**
+     * Get the size of the guesses of a frame
+     *
+     * @param guessCount the number of guesses
+     * @return the size in bytes
+     */
+    private static int guessBytes(int guessCount) {
+        return (guessCount * BITS_PER_GUESS + Byte.SIZE - 1) / Byte.SIZE;
+    }
+}
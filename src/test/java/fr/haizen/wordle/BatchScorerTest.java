@@ -0,0 +1,131 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.engine.BatchScorer;
+import fr.haizen.wordle.engine.ScoringBackend;
+import fr.haizen.wordle.utils.WordCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the BatchScorer class
+ */
+class BatchScorerTest {
+
+    /**
+     * Instance of the batch scorer
+     */
+    private final BatchScorer scorer = new BatchScorer(ForkJoinPool.commonPool());
+
+    /**
+     * BatchScorer - UNIT TEST #1
+     * Result: Valid
+     * Reason: A large batch (split in tasks) matches the game scoring
+     */
+    @Test
+    void score_LargeBatch_MatchesGameLogic() {
+        int[] guesses = TestWords.randomPackedWords(50_000, 1, 6);
+        int[] answers = TestWords.randomPackedWords(50_000, 2, 6);
+        byte[] output = new byte[guesses.length];
+
+        scorer.score(guesses, answers, output);
+        assertArrayEquals(expected(guesses, answers), output);
+    }
+
+    /**
+     * BatchScorer - UNIT TEST #2
+     * Result: Valid
+     * Reason: A stream of pairs is scored in order
+     */
+    @Test
+    void score_Stream_WritesOnePatternPerPair() throws IOException {
+        int[] guesses = TestWords.randomPackedWords(1000, 3, 6);
+        int[] answers = TestWords.randomPackedWords(1000, 4, 6);
+        ByteBuffer pairs = ByteBuffer.allocate(guesses.length * 8);
+        for (int i = 0; i < guesses.length; i++) pairs.putInt(guesses[i]).putInt(answers[i]);
+
+        ByteArrayOutputStream patterns = new ByteArrayOutputStream();
+        long count = scorer.score(Channels.newChannel(new ByteArrayInputStream(pairs.array())), Channels.newChannel(patterns));
+
+        assertEquals(guesses.length, count);
+        assertArrayEquals(expected(guesses, answers), patterns.toByteArray());
+    }
+
+    /**
+     * BatchScorer - UNIT TEST #3
+     * Result: Invalid
+     * Reason: The columns don't have the same length
+     */
+    @Test
+    void score_DifferentLengths_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> scorer.score(new int[2], new int[3], new byte[3]));
+    }
+
+    /**
+     * BatchScorer - UNIT TEST #4
+     * Result: Valid
+     * Reason: The best backend (vector when the module is present) matches the scalar one, with any range tail
+     */
+    @Test
+    void scoringBackend_Best_MatchesScalar() {
+        ScoringBackend best = ScoringBackend.best();
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() ? "vector" : "scalar", best.getName());
+
+        int[] guesses = TestWords.randomPackedWords(10_000, 5, 6);
+        int[] answers = TestWords.randomPackedWords(10_000, 6, 6);
+        for (int from : new int[]{0, 1, 7}) {
+            byte[] actual = new byte[guesses.length];
+            byte[] expected = new byte[guesses.length];
+            best.score(guesses, answers, actual, from, guesses.length - from);
+            ScoringBackend.scalar().score(guesses, answers, expected, from, guesses.length - from);
+            assertArrayEquals(expected, actual);
+        }
+
+        /*
+         * Every letter code (the few letters above give many repeated letters)
+         */
+        guesses = TestWords.randomPackedWords(10_000, 9, 26);
+        answers = TestWords.randomPackedWords(10_000, 10, 26);
+        byte[] actual = new byte[guesses.length];
+        byte[] expected = new byte[guesses.length];
+        best.score(guesses, answers, actual, 0, guesses.length);
+        ScoringBackend.scalar().score(guesses, answers, expected, 0, guesses.length);
+        assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * BatchScorer - UNIT TEST #5
+     * Result: Valid
+     * Reason: Many guesses against a single answer match the game scoring
+     */
+    @Test
+    void scoreGuesses_SingleAnswer_MatchesGameLogic() {
+        int[] guesses = TestWords.randomPackedWords(20_003, 7, 6);
+        int answer = TestWords.randomPackedWords(1, 8, 6)[0];
+        byte[] output = new byte[guesses.length];
+
+        scorer.scoreGuesses(answer, guesses, output);
+        int[] answers = new int[guesses.length];
+        Arrays.fill(answers, answer);
+        assertArrayEquals(expected(guesses, answers), output);
+    }
+
+    private static byte[] expected(int[] guesses, int[] answers) {
+        byte[] expected = new byte[guesses.length];
+        for (int i = 0; i < guesses.length; i++) {
+            expected[i] = (byte) GameLogic.score(WordCodec.unpack(guesses[i], 5), WordCodec.unpack(answers[i], 5));
+        }
+        return expected;
+    }
+}
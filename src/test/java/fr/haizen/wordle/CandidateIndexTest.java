@@ -0,0 +1,144 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.CandidateIndex;
+import fr.haizen.wordle.dictionary.RemainingCandidates;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.utils.WordUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the CandidateIndex and RemainingCandidates classes
+ */
+class CandidateIndexTest {
+
+    /**
+     * Create fake words (with duplicate letters)
+     */
+    private static final List<String> WORDS = List.of(
+            "hello", "world", "level", "lemon", "brick", "happy", "eerie", "there", "three", "sheep", "geese", "ellen"
+    );
+
+    /**
+     * Instance of the index
+     */
+    private CandidateIndex index;
+
+    /**
+     * Set up the index before each test
+     */
+    @BeforeEach
+    void setUp() {
+        index = new CandidateIndex(WORDS);
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #1
+     * Result: Valid
+     * Reason: A new view contains every word
+     */
+    @Test
+    void newView_NoResult_ContainsAllWords() {
+        RemainingCandidates view = index.newView();
+        assertEquals(WORDS.size(), view.count());
+        assertEquals(WORDS, view.words());
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #2
+     * Result: Valid
+     * Reason: The view keeps the same words as re-scoring every word
+     */
+    @Test
+    void apply_EveryGuessAndAnswer_MatchesScoring() {
+        for (String answer : WORDS) {
+            for (String guess : WORDS) {
+                RemainingCandidates view = index.newView();
+                view.apply(new GameLogic(answer).checkGuess(guess.toUpperCase()));
+
+                List<String> expected = new ArrayList<>();
+                for (String word : WORDS) {
+                    if (GameLogic.score(guess, word) == GameLogic.score(guess, answer)) expected.add(word);
+                }
+                assertEquals(expected, view.words(), "Guess " + guess + " against " + answer);
+            }
+        }
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #3
+     * Result: Valid
+     * Reason: The results are applied one after the other
+     */
+    @Test
+    void apply_SeveralResults_NarrowsTheView() {
+        GameLogic gameLogic = new GameLogic("THREE");
+        RemainingCandidates view = index.newView();
+
+        view.apply(gameLogic.checkGuess("GEESE"));
+        view.apply(gameLogic.checkGuess("THERE"));
+        assertEquals(List.of("three"), view.words());
+        assertTrue(view.contains(WORDS.indexOf("three")));
+        assertFalse(view.contains(WORDS.indexOf("there")));
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #4
+     * Result: Invalid
+     * Reason: A word of the list is not valid
+     */
+    @Test
+    void constructor_InvalidWord_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new CandidateIndex(List.of("hello", "héllo")));
+        assertThrows(IllegalArgumentException.class, () -> new CandidateIndex(List.of("hello", "planet"), 5));
+        assertThrows(IllegalArgumentException.class, () -> new CandidateIndex(List.of(), 0));
+        assertThrows(IllegalArgumentException.class, () -> index.newView().apply(new GuessResult("planet", false, 0)));
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #5
+     * Result: Valid
+     * Reason: A view listening to a game is narrowed on each guess
+     */
+    @Test
+    void guessScored_Listener_NarrowsTheView() {
+        GameLogic gameLogic = new GameLogic("THREE");
+        RemainingCandidates view = index.newView();
+        gameLogic.addListener(view);
+
+        gameLogic.checkGuess("GEESE");
+        gameLogic.checkGuess("THERE");
+        assertEquals(List.of("three"), view.words());
+    }
+
+    /**
+     * CandidateIndex - UNIT TEST #6
+     * Result: Valid
+     * Reason: An index of another word length, whose words are not in the installed dictionary
+     */
+    @Test
+    void apply_SixLetterWordsNotInDictionary_MatchesScoring() {
+        List<String> words = List.of("planet", "planes", "plains", "tablet", "pellet");
+        WordUtils.setDictionary(WordList.of(List.of("hello")));
+        try {
+            CandidateIndex sixLetters = new CandidateIndex(words, 6);
+            assertEquals(6, sixLetters.getWordLength());
+
+            RemainingCandidates view = sixLetters.newView();
+            view.apply(new GuessResult("pellet", false, GameLogic.score("pellet", "planet")));
+            assertEquals(List.of("planet"), view.words());
+        } finally {
+            WordUtils.setDictionary();
+        }
+    }
+}
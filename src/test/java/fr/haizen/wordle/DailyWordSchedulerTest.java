@@ -0,0 +1,100 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.daily.DailyWordScheduler;
+import fr.haizen.wordle.dictionary.WordList;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the DailyWordScheduler class
+ */
+class DailyWordSchedulerTest {
+
+    /**
+     * The possible answers
+     */
+    private static final WordList ANSWERS = WordList.of(List.of("hello", "world", "lemon", "level", "tiger",
+            "crane", "slate", "brick", "three", "there", "geese", "eerie"));
+
+    /**
+     * The clock (fixed day)
+     */
+    private static final Clock CLOCK = Clock.fixed(LocalDate.of(2026, 10, 18).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    /**
+     * DailyWordScheduler - UNIT TEST #1
+     * Result: Valid
+     * Reason: Two instances with the same answers and seed give the same words (inside and outside of the window)
+     */
+    @Test
+    void answer_SameSeed_SameWords() {
+        DailyWordScheduler first = new DailyWordScheduler(ANSWERS, 42, 7, Runnable::run, CLOCK);
+        DailyWordScheduler second = new DailyWordScheduler(ANSWERS, 42, 30, Runnable::run, CLOCK);
+
+        LocalDate day = LocalDate.of(2026, 10, 10);
+        for (int i = 0; i < 60; i++, day = day.plusDays(1)) {
+            assertEquals(first.answer(day), second.answer(day));
+            assertEquals(ANSWERS.word(first.answerIndex(day)), first.answer(day));
+        }
+    }
+
+    /**
+     * DailyWordScheduler - UNIT TEST #2
+     * Result: Valid
+     * Reason: Every answer is played once before any is played again
+     */
+    @Test
+    void answer_ConsecutiveDays_PlaysEveryAnswer() {
+        DailyWordScheduler scheduler = new DailyWordScheduler(ANSWERS, 42, 7, Runnable::run, CLOCK);
+
+        Set<String> words = new HashSet<>();
+        LocalDate day = DailyWordScheduler.EPOCH;
+        for (int i = 0; i < ANSWERS.size(); i++, day = day.plusDays(1)) words.add(scheduler.answer(day));
+        assertEquals(ANSWERS.size(), words.size());
+    }
+
+    /**
+     * DailyWordScheduler - UNIT TEST #3
+     * Result: Valid
+     * Reason: A new seed rebuilds the calendar in the background
+     */
+    @Test
+    void update_NewSeed_RebuildsCalendar() {
+        DailyWordScheduler scheduler = new DailyWordScheduler(ANSWERS, 42, 7, ForkJoinPool.commonPool(), CLOCK);
+        DailyWordScheduler expected = new DailyWordScheduler(ANSWERS, 7, 7, Runnable::run, CLOCK);
+
+        List<String> before = week(scheduler);
+        scheduler.update(ANSWERS, 7).join();
+
+        assertEquals(week(expected), week(scheduler));
+        assertNotEquals(before, week(scheduler));
+    }
+
+    /**
+     * DailyWordScheduler - UNIT TEST #4
+     * Result: Invalid
+     * Reason: There is no answer to schedule
+     */
+    @Test
+    void constructor_NoAnswer_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new DailyWordScheduler(WordList.of(List.of()), 42, 7, Runnable::run, CLOCK));
+    }
+
+    private static List<String> week(DailyWordScheduler scheduler) {
+        LocalDate today = LocalDate.now(CLOCK);
+        return List.of(scheduler.answer(today), scheduler.answer(today.plusDays(1)), scheduler.answer(today.plusDays(2)),
+                scheduler.answer(today.plusDays(3)), scheduler.answer(today.plusDays(4)));
+    }
+}
@@ -0,0 +1,121 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.solver.DecisionTree;
+import fr.haizen.wordle.solver.DecisionTreeBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the DecisionTreeBuilder and DecisionTree classes
+ */
+class DecisionTreeTest {
+
+    /**
+     * Create fake answers
+     */
+    private static final List<String> ANSWERS = List.of("HELLO", "WORLD", "LEVEL", "BRICK", "LEMON", "HAPPY", "CRANE", "SLATE");
+
+    /**
+     * DecisionTree - UNIT TEST #1
+     * Result: Valid
+     * Reason: Walking the tree file solves every answer, in the number of guesses stored in the header
+     */
+    @Test
+    void nextGuess_PlayedGames_FindsEveryAnswer(@TempDir Path directory) throws IOException {
+        List<String> answers = TestWords.randomWords(400, 1, 8);
+        DecisionTree tree = new DecisionTreeBuilder(answers, answers, ForkJoinPool.commonPool(), 1).build(directory.resolve("tree.bin"));
+
+        int total = 0;
+        for (String answer : answers) {
+            int guesses = play(tree, answer);
+            assertTrue(guesses <= tree.getMaxDepth(), "Too many guesses for " + answer);
+            total += guesses;
+        }
+        assertEquals(answers.size(), tree.getAnswerCount());
+        assertEquals(total, tree.getTotalGuesses());
+    }
+
+    /**
+     * DecisionTree - UNIT TEST #2
+     * Result: Valid
+     * Reason: Trying more guesses per node never gives a worse tree
+     */
+    @Test
+    void build_HigherBreadth_IsNotWorse(@TempDir Path directory) throws IOException {
+        List<String> answers = TestWords.randomWords(150, 2, 8);
+        DecisionTree greedy = new DecisionTreeBuilder(answers, answers, ForkJoinPool.commonPool(), 1).build(directory.resolve("greedy.bin"));
+        DecisionTree wide = new DecisionTreeBuilder(answers, answers, ForkJoinPool.commonPool(), 4).build(directory.resolve("wide.bin"));
+
+        assertTrue(wide.getTotalGuesses() <= greedy.getTotalGuesses());
+        for (String answer : answers) play(wide, answer);
+    }
+
+    /**
+     * DecisionTree - UNIT TEST #3
+     * Result: Valid
+     * Reason: A reopened file gives the same guesses
+     */
+    @Test
+    void open_BuiltFile_GivesSameGuesses(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("tree.bin");
+        DecisionTree built = new DecisionTreeBuilder(ANSWERS, ANSWERS, ForkJoinPool.commonPool(), 2).build(file);
+        DecisionTree opened = DecisionTree.open(file);
+
+        assertEquals(built.getNodeCount(), opened.getNodeCount());
+        for (String answer : ANSWERS) {
+            GameLogic gameLogic = new GameLogic(answer);
+            List<GuessResult> history = new ArrayList<>();
+            while (history.isEmpty() || !history.get(history.size() - 1).isCorrect()) {
+                String guess = opened.nextGuess(history);
+                assertEquals(built.nextGuess(history), guess);
+                history.add(gameLogic.checkGuess(guess));
+            }
+        }
+    }
+
+    /**
+     * DecisionTree - UNIT TEST #4
+     * Result: Invalid
+     * Reason: A guess outside of the tree, a pattern without child, or a file that is not a tree
+     */
+    @Test
+    void nextGuess_GuessNotInTree_ThrowsException(@TempDir Path directory) throws IOException {
+        DecisionTree tree = new DecisionTreeBuilder(ANSWERS, ANSWERS, ForkJoinPool.commonPool(), 1).build(directory.resolve("tree.bin"));
+        String other = tree.guess(DecisionTree.ROOT).equals("crane") ? "slate" : "crane";
+        GuessResult result = new GameLogic("HELLO").checkGuess(other);
+        assertThrows(IllegalStateException.class, () -> tree.nextGuess(List.of(result)));
+        assertEquals(DecisionTree.NO_NODE, tree.child(DecisionTree.ROOT, FeedbackPattern.ALL_CORRECT));
+
+        Path notTree = Files.write(directory.resolve("other.bin"), new byte[64]);
+        assertThrows(IOException.class, () -> DecisionTree.open(notTree));
+    }
+
+    /**
+     * Play a game with the tree
+     *
+     * @return the number of guesses
+     */
+    private static int play(DecisionTree tree, String answer) {
+        GameLogic gameLogic = new GameLogic(answer);
+        List<GuessResult> history = new ArrayList<>();
+        while (history.isEmpty() || !history.get(history.size() - 1).isCorrect()) {
+            assertTrue(history.size() < 15, "Answer not found: " + answer);
+            history.add(gameLogic.checkGuess(tree.nextGuess(history)));
+        }
+        return history.size();
+    }
+}
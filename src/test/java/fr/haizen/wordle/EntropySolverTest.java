@@ -0,0 +1,126 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.solver.EntropySolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the EntropySolver class
+ */
+class EntropySolverTest {
+
+    /**
+     * Create fake answers
+     */
+    private static final List<String> ANSWERS = List.of("HELLO", "WORLD", "LEVEL", "BRICK", "LEMON", "HAPPY", "CRANE", "SLATE");
+
+    /**
+     * Instance of the solver
+     */
+    private EntropySolver solver;
+
+    /**
+     * Set up the solver before each test
+     */
+    @BeforeEach
+    void setUp() {
+        solver = new EntropySolver(ANSWERS, ANSWERS, ForkJoinPool.commonPool(), Duration.ofSeconds(5));
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #1
+     * Result: Valid
+     * Reason: The first guess is computed once and then reused
+     */
+    @Test
+    void nextGuess_EmptyHistory_ReturnsCachedFirstGuess() {
+        String first = solver.nextGuess(List.of());
+        assertSame(first, solver.nextGuess(List.of()));
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #2
+     * Result: Valid
+     * Reason: The solver finds every answer in a few guesses
+     */
+    @Test
+    void nextGuess_PlayedGames_FindsEveryAnswer() {
+        for (String answer : ANSWERS) {
+            GameLogic gameLogic = new GameLogic(answer);
+            List<GuessResult> history = new ArrayList<>();
+
+            while (history.isEmpty() || !history.get(history.size() - 1).isCorrect()) {
+                assertTrue(history.size() < 6, "Answer not found: " + answer);
+                history.add(gameLogic.checkGuess(solver.nextGuess(history)));
+            }
+        }
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #3
+     * Result: Valid
+     * Reason: Only the answers with the same feedback are kept
+     */
+    @Test
+    void candidates_AfterGuess_KeepsConsistentAnswers() {
+        GuessResult result = new GameLogic("LEVEL").checkGuess("LEMON");
+        assertArrayEquals(new int[]{2}, solver.candidates(List.of(result)));
+        assertEquals("level", solver.nextGuess(List.of(result)));
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #4
+     * Result: Invalid
+     * Reason: No answer matches the feedback
+     */
+    @Test
+    void nextGuess_ImpossibleFeedback_ThrowsException() {
+        GuessResult result = new GameLogic("TIGER").checkGuess("TIGER");
+        assertThrows(IllegalStateException.class, () -> solver.nextGuess(List.of(result)));
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #5
+     * Result: Valid
+     * Reason: A guess outside of the allowed guesses filters the answers too, after the allowed ones
+     */
+    @Test
+    void candidates_GuessNotAllowed_ScoredDirectly() {
+        GameLogic gameLogic = new GameLogic("LEVEL");
+        GuessResult first = gameLogic.checkGuess("TIGER");
+        GuessResult second = gameLogic.checkGuess("HELLO");
+
+        List<Integer> expected = new ArrayList<>();
+        for (int answer = 0; answer < ANSWERS.size(); answer++) {
+            if (GameLogic.score("tiger", ANSWERS.get(answer)) == first.getPattern()
+                    && GameLogic.score("hello", ANSWERS.get(answer)) == second.getPattern()) expected.add(answer);
+        }
+
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), solver.candidates(List.of(first, second)));
+    }
+
+    /**
+     * EntropySolver - UNIT TEST #6
+     * Result: Valid
+     * Reason: A search cut by its budget still plays a possible answer (and is searched again next time)
+     */
+    @Test
+    void nextGuess_NoBudget_PlaysPossibleAnswer() {
+        EntropySolver hurried = new EntropySolver(ANSWERS, ANSWERS, ForkJoinPool.commonPool(), Duration.ZERO);
+        assertTrue(ANSWERS.contains(hurried.nextGuess(List.of()).toUpperCase()));
+        assertTrue(ANSWERS.contains(hurried.nextGuess(List.of()).toUpperCase()));
+    }
+}
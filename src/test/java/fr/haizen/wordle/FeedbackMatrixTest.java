@@ -0,0 +1,124 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.FeedbackMatrix;
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the FeedbackPattern and FeedbackMatrix classes
+ */
+class FeedbackMatrixTest {
+
+    /**
+     * Create fake guesses
+     */
+    private static final List<String> GUESSES = List.of("HELLO", "OLLEH", "BRICK", "LEMON");
+
+    /**
+     * Create fake answers
+     */
+    private static final List<String> ANSWERS = List.of("HELLO", "LEVEL", "WORLD");
+
+    /**
+     * FeedbackMatrix - UNIT TEST #1
+     * Result: Valid
+     * Reason: A feedback is decoded back to the same feedback
+     */
+    @Test
+    void encode_Feedback_DecodesToSameFeedback() {
+        LetterFeedback[] feedback = GameLogic.generateFeedback("olleh", "hello");
+        int pattern = FeedbackPattern.encode(feedback);
+        assertArrayEquals(feedback, FeedbackPattern.decode(pattern, 5));
+        assertEquals(LetterFeedback.CORRECT, FeedbackPattern.feedbackAt(pattern, 2));
+    }
+
+    /**
+     * FeedbackMatrix - UNIT TEST #2
+     * Result: Valid
+     * Reason: All letters green is the highest pattern
+     */
+    @Test
+    void encode_AllCorrect_ReturnsAllCorrectPattern() {
+        assertEquals(FeedbackPattern.ALL_CORRECT, FeedbackPattern.encode(GameLogic.generateFeedback("hello", "hello")));
+    }
+
+    /**
+     * FeedbackMatrix - UNIT TEST #3
+     * Result: Valid
+     * Reason: Every cell matches the reference feedback
+     */
+    @Test
+    void compute_EveryPair_MatchesGenerateFeedback() {
+        FeedbackMatrix matrix = FeedbackMatrix.compute(GUESSES, ANSWERS);
+        assertMatchesReference(matrix);
+    }
+
+    /**
+     * FeedbackMatrix - UNIT TEST #4
+     * Result: Valid
+     * Reason: A matrix written to a file is read back the same
+     */
+    @Test
+    void open_ComputedFile_MatchesGenerateFeedback(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("feedback.bin");
+        FeedbackMatrix.compute(GUESSES, ANSWERS, file);
+
+        FeedbackMatrix matrix = FeedbackMatrix.open(file);
+        assertEquals(GUESSES.size(), matrix.getGuessCount());
+        assertEquals(ANSWERS.size(), matrix.getAnswerCount());
+        assertMatchesReference(matrix);
+    }
+
+    /**
+     * FeedbackMatrix - UNIT TEST #5
+     * Result: Invalid
+     * Reason: A word of the list is not valid
+     */
+    @Test
+    void compute_InvalidWord_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.compute(List.of("12345"), ANSWERS));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.compute(List.of("héllo"), ANSWERS));
+    }
+
+    /**
+     * FeedbackMatrix - UNIT TEST #6
+     * Result: Valid
+     * Reason: The words are checked without the installed dictionary
+     */
+    @Test
+    void compute_WordsNotInDictionary_MatchesReference() {
+        WordUtils.setDictionary(WordList.of(List.of("crane")));
+        try {
+            assertMatchesReference(FeedbackMatrix.compute(GUESSES, ANSWERS));
+        } finally {
+            WordUtils.setDictionary();
+        }
+    }
+
+    /**
+     * Check every cell of the matrix against the reference algorithm
+     *
+     * @param matrix the matrix to check
+     */
+    private static void assertMatchesReference(FeedbackMatrix matrix) {
+        for (int guess = 0; guess < GUESSES.size(); guess++) {
+            for (int answer = 0; answer < ANSWERS.size(); answer++) {
+                LetterFeedback[] expected = GameLogic.generateFeedback(GUESSES.get(guess).toLowerCase(), ANSWERS.get(answer).toLowerCase());
+                assertEquals(FeedbackPattern.encode(expected), matrix.get(guess, answer));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.wire.GameCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the GameCodec class (binary game frames)
+ */
+class GameCodecTest {
+
+    /**
+     * GameCodec - UNIT TEST #1
+     * Result: Valid
+     * Reason: Any game is read back as written, frames are written one after the other (replay file)
+     */
+    @Test
+    void encode_RandomGames_ReadBack() {
+        SplittableRandom random = new SplittableRandom(3);
+        int[][] guesses = new int[GameSettings.MAX_ATTEMPTS + 1][];
+        int[][] patterns = new int[guesses.length][];
+        ByteBuffer buffer = ByteBuffer.allocate(guesses.length * GameCodec.MAX_SIZE);
+
+        for (int count = 0; count < guesses.length; count++) {
+            guesses[count] = new int[count];
+            patterns[count] = new int[count];
+            for (int i = 0; i < count; i++) {
+                guesses[count][i] = 1 + random.nextInt((1 << 25) - 1);
+                patterns[count][i] = random.nextInt(FeedbackPattern.PATTERN_COUNT);
+            }
+            assertEquals(GameCodec.encodedSize(count), GameCodec.encode(buffer, count, GameSettings.MAX_ATTEMPTS, guesses[count], patterns[count], count));
+        }
+
+        int offset = 0;
+        for (int count = 0; count < guesses.length; count++) {
+            int size = GameCodec.frameSize(buffer, offset);
+            assertEquals(count, GameCodec.targetId(buffer, offset));
+            assertEquals(GameSettings.MAX_ATTEMPTS, GameCodec.maxAttempts(buffer, offset));
+            assertEquals(count, GameCodec.guessCount(buffer, offset));
+            for (int i = 0; i < count; i++) {
+                assertEquals(guesses[count][i], GameCodec.guess(buffer, offset, i));
+                assertEquals(patterns[count][i], GameCodec.pattern(buffer, offset, i));
+            }
+            offset += size;
+        }
+        assertEquals(buffer.position(), offset);
+    }
+
+    /**
+     * GameCodec - UNIT TEST #2
+     * Result: Valid
+     * Reason: A won game of 6 guesses fits in 31 bytes, with its words and feedback
+     */
+    @Test
+    void encode_GameLogic_FitsInAFewBytes() {
+        GameLogic game = new GameLogic("HELLO");
+        String[] words = {"world", "hello"};
+        for (String word : words) game.checkGuess(word);
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.MAX_SIZE);
+        int size = GameCodec.encode(buffer, 42, game);
+        assertEquals(GameCodec.encodedSize(2), size);
+        assertEquals(31, GameCodec.encodedSize(6));
+
+        assertEquals(42, GameCodec.targetId(buffer, 0));
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(words[i], WordCodec.unpack(GameCodec.guess(buffer, 0, i), 5));
+            assertEquals(game.getHistory().get(i).getPattern(), GameCodec.pattern(buffer, 0, i));
+        }
+        assertTrue(GameCodec.isWon(buffer, 0));
+        assertTrue(GameCodec.isGameOver(buffer, 0));
+    }
+
+    /**
+     * GameCodec - UNIT TEST #3
+     * Result: Invalid
+     * Reason: A frame that doesn't fit is not written, truncated or unknown frames are rejected
+     */
+    @Test
+    void frames_InvalidBuffers_AreRejected() {
+        int[] guesses = {(int) WordCodec.pack("crane"), (int) WordCodec.pack("slate")};
+        int[] patterns = {0, 1};
+
+        ByteBuffer small = ByteBuffer.allocate(GameCodec.encodedSize(2) - 1);
+        assertThrows(BufferOverflowException.class, () -> GameCodec.encode(small, 1, 6, guesses, patterns, 2));
+        assertEquals(0, small.position());
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.encode(small, 1, 1, guesses, patterns, 2));
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.MAX_SIZE);
+        GameCodec.encode(buffer, 1, 6, guesses, patterns, 2);
+        assertFalse(GameCodec.isGameOver(buffer, 0));
+        assertThrows(BufferUnderflowException.class, () -> GameCodec.frameSize(buffer.duplicate().limit(GameCodec.encodedSize(2) - 1), 0));
+
+        buffer.put(0, (byte) (GameCodec.VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.frameSize(buffer, 0));
+    }
+
+    /**
+     * GameCodec - UNIT TEST #4
+     * Result: Invalid
+     * Reason: A frame without attempts is rejected, a guess outside of the frame can't be read or written
+     */
+    @Test
+    void frames_InvalidAttemptsOrIndex_AreRejected() {
+        int[] guesses = {(int) WordCodec.pack("crane"), (int) WordCodec.pack("slate")};
+        int[] patterns = {0, 1};
+        ByteBuffer buffer = ByteBuffer.allocate(GameCodec.MAX_SIZE);
+        GameCodec.encode(buffer, 1, 6, guesses, patterns, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> GameCodec.guess(buffer, 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> GameCodec.pattern(buffer, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> GameCodec.putGuess(buffer, 0, 2, guesses[0], 0));
+
+        buffer.put(GameCodec.HEADER_SIZE - 1, (byte) 0);
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.frameSize(buffer, 0));
+        assertThrows(IllegalArgumentException.class, () -> GameCodec.startFrame(buffer.clear(), 1, 0, 0));
+    }
+}
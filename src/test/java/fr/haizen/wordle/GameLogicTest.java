@@ -1,13 +1,25 @@
 package fr.haizen.wordle;
 
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.event.GameListener;
+import fr.haizen.wordle.objects.GameSettings;
 import fr.haizen.wordle.objects.GuessResult;
 import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.objects.Word;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -215,4 +227,193 @@ class GameLogicTest {
         assertEquals(0, gameLogic.getRemainingAttempts());
         assertTrue(gameLogic.isGameOver());
     }
-}
\ No newline at end of file
+
+    /**
+     * GameLogic - UNIT TEST #14
+     * Result: Valid
+     * Reason: The packed score of chars and bytes matches the feedback of the game
+     */
+    @Test
+    void score_CharsAndBytes_MatchesCheckGuess() {
+        GameLogic duplicateGame = new GameLogic("LEVEL");
+        int expected = FeedbackPattern.encode(duplicateGame.checkGuess("ELLEN").getFeedback());
+        assertAll(
+                () -> assertEquals(expected, GameLogic.score("ELLEN".toCharArray(), "level".toCharArray())),
+                () -> assertEquals(expected, GameLogic.score("ellen".getBytes(StandardCharsets.US_ASCII), "LEVEL".getBytes(StandardCharsets.US_ASCII)))
+        );
+    }
+
+    /**
+     * GameLogic - UNIT TEST #15
+     * Result: Valid
+     * Reason: Only the available duplicate letters are marked as wrong position
+     */
+    @Test
+    void score_DuplicateLetters_MarksOnlyAvailableLetters() {
+        LetterFeedback[] feedback = GameLogic.generateFeedback("eerie", "there");
+        assertArrayEquals(new LetterFeedback[]{
+                LetterFeedback.WRONG_POSITION, // E
+                LetterFeedback.INCORRECT, // E
+                LetterFeedback.WRONG_POSITION, // R
+                LetterFeedback.INCORRECT, // I
+                LetterFeedback.CORRECT // E
+        }, feedback);
+    }
+
+    /**
+     * GameLogic - UNIT TEST #16
+     * Result: Valid
+     * Reason: The words with non ASCII letters are scored too
+     */
+    @Test
+    void checkGuess_NonAsciiLetters_ReturnsFeedback() {
+        GameLogic accentGame = new GameLogic("ÉTAGE");
+        GuessResult result = accentGame.checkGuess("étage");
+        assertTrue(result.isCorrect());
+    }
+
+    /**
+     * GameLogic - UNIT TEST #17
+     * Result: Valid
+     * Reason: The valid guesses are stored once, in order, with their packed feedback
+     */
+    @Test
+    void getHistory_ValidGuesses_StoresResultsInOrder() {
+        GuessResult first = gameLogic.checkGuess("WORLD");
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess("INVALID"));
+        GuessResult second = gameLogic.checkGuess("OLLEH");
+
+        assertAll(
+                () -> assertEquals(2, gameLogic.getHistory().size()),
+                () -> assertSame(first, gameLogic.getHistory().get(0)),
+                () -> assertSame(second, gameLogic.getHistory().get(1)),
+                () -> assertEquals(GameLogic.score("OLLEH", TARGET_WORD), second.getPattern())
+        );
+    }
+
+    /**
+     * GameLogic - UNIT TEST #18
+     * Result: Invalid
+     * Reason: The history is read-only
+     */
+    @Test
+    void getHistory_Modification_ThrowsException() {
+        GuessResult result = gameLogic.checkGuess("WORLD");
+        assertThrows(UnsupportedOperationException.class, () -> gameLogic.getHistory().add(result));
+    }
+
+    /**
+     * GameLogic - UNIT TEST #19
+     * Result: Valid
+     * Reason: The listeners are notified of the scored guesses and of the win
+     */
+    @Test
+    void addListener_CorrectGuess_NotifiesGameWon() {
+        List<String> events = new ArrayList<>();
+        gameLogic.addListener(new GameListener() {
+            @Override
+            public void guessScored(GameLogic game, GuessResult result) {
+                events.add("scored " + result.getGuess());
+            }
+
+            @Override
+            public void gameWon(GameLogic game) {
+                events.add("won");
+            }
+
+            @Override
+            public void gameLost(GameLogic game) {
+                events.add("lost");
+            }
+        });
+
+        gameLogic.checkGuess("WORLD");
+        gameLogic.decrementAttempts();
+        gameLogic.checkGuess(TARGET_WORD);
+
+        assertEquals(List.of("scored WORLD", "scored " + TARGET_WORD, "won"), events);
+    }
+
+    /**
+     * GameLogic - UNIT TEST #20
+     * Result: Valid
+     * Reason: The listeners are notified when the last attempt is used, and nothing is printed
+     */
+    @Test
+    void addListener_NoRemainingAttempts_NotifiesGameLost() {
+        int[] lost = new int[1];
+        gameLogic.addListener(new GameListener() {
+            @Override
+            public void gameLost(GameLogic game) {
+                lost[0]++;
+            }
+        });
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            for (int i = 0; i < 6; i++) {
+                gameLogic.checkGuess("WORLD");
+                gameLogic.decrementAttempts();
+            }
+            assertTrue(gameLogic.isGameOver());
+        } finally {
+            System.setOut(out);
+        }
+
+        assertEquals(1, lost[0]);
+        assertEquals(0, output.size());
+    }
+
+    /**
+     * GameLogic - UNIT TEST #21
+     * Result: Valid
+     * Reason: A game can have other settings (8 letters, 3 attempts)
+     */
+    @Test
+    void checkGuess_CustomSettings_UsesWordLengthAndAttempts() {
+        GameLogic longGame = new GameLogic("ELEPHANT", new GameSettings(8, 3));
+        GuessResult wrong = longGame.checkGuess("TELEPHON");
+        GuessResult right = longGame.checkGuess("elephant");
+
+        assertAll(
+                () -> assertEquals(8, wrong.getFeedback().length),
+                () -> assertEquals(GameLogic.score("TELEPHON", "ELEPHANT"), wrong.getPattern()),
+                () -> assertFalse(wrong.isCorrect()),
+                () -> assertTrue(right.isCorrect()),
+                () -> assertThrows(IllegalArgumentException.class, () -> longGame.checkGuess(TARGET_WORD))
+        );
+    }
+
+    /**
+     * GameLogic - UNIT TEST #22
+     * Result: Invalid
+     * Reason: The word length must be between 4 and 8 letters
+     */
+    @Test
+    void constructor_InvalidSettings_ThrowsException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new GameSettings(3, 6)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new GameSettings(9, 6)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new GameSettings(5, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new GameLogic(TARGET_WORD, new GameSettings(6, 6)))
+        );
+    }
+
+    /**
+     * GameLogic - UNIT TEST #23
+     * Result: Valid
+     * Reason: A packed word guess gives the same result as its text, the target is stored once as a packed word
+     */
+    @Test
+    void checkGuess_Word_MatchesStringGuess() {
+        GuessResult text = new GameLogic(TARGET_WORD).checkGuess("WORLD");
+        GuessResult word = gameLogic.checkGuess(Word.of("world"));
+
+        assertEquals(text.getPattern(), word.getPattern());
+        assertEquals("world", word.getGuess());
+        assertEquals(Word.of("hello"), gameLogic.getTarget());
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess(Word.of("worlds")));
+    }
+}
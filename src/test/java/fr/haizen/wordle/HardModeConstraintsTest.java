@@ -0,0 +1,142 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.engine.HardModeConstraints;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.utils.WordCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the HardModeConstraints class (and the hard mode of GameLogic)
+ */
+class HardModeConstraintsTest {
+
+    /**
+     * The settings of a hard mode game
+     */
+    private static final GameSettings HARD = new GameSettings(5, 6, true);
+
+    /**
+     * HardModeConstraints - UNIT TEST #1
+     * Result: Valid
+     * Reason: A guess using the green and yellow letters is allowed
+     */
+    @Test
+    void checkGuess_HintsUsed_IsAllowed() {
+        GameLogic gameLogic = new GameLogic("THREE", HARD);
+        gameLogic.checkGuess("TIGER"); // T and E green, R yellow, I and G gray
+
+        assertDoesNotThrow(() -> gameLogic.checkGuess("TREES"));
+        assertTrue(gameLogic.checkGuess("THREE").isCorrect());
+    }
+
+    /**
+     * HardModeConstraints - UNIT TEST #2
+     * Result: Invalid
+     * Reason: A green letter moved, a yellow letter missing, or a gray letter used again
+     */
+    @Test
+    void checkGuess_HintsIgnored_ThrowsException() {
+        GameLogic gameLogic = new GameLogic("THREE", HARD);
+        gameLogic.checkGuess("TIGER"); // T and E green, R yellow, I and G gray
+
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess("HERET")); // T not at position 1
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess("TEEEH")); // R missing
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess("TGREE")); // G is gray
+        assertEquals(1, gameLogic.getHistory().size());
+    }
+
+    /**
+     * HardModeConstraints - UNIT TEST #3
+     * Result: Valid
+     * Reason: A gray duplicate doesn't ban a letter found elsewhere, but the found count is required
+     */
+    @Test
+    void checkGuess_GrayDuplicate_KeepsLetter() {
+        GameLogic gameLogic = new GameLogic("THERE", HARD);
+        gameLogic.checkGuess("EERIE"); // E yellow, E gray, R yellow, I gray, E green
+
+        assertDoesNotThrow(() -> gameLogic.checkGuess("THREE"));
+        assertThrows(IllegalArgumentException.class, () -> gameLogic.checkGuess("TREND"));
+    }
+
+    /**
+     * HardModeConstraints - UNIT TEST #4
+     * Result: Valid
+     * Reason: The incremental constraints give the same answer as rescanning every previous result
+     */
+    @Test
+    void allows_RandomGames_MatchesRescan() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int game = 0; game < 2000; game++) {
+            String target = TestWords.randomWord(random, 6);
+            HardModeConstraints constraints = new HardModeConstraints();
+            List<GuessResult> history = new ArrayList<>();
+
+            for (int turn = 0; turn < 6; turn++) {
+                String guess = TestWords.randomWord(random, 6);
+                boolean allowed = constraints.allows(WordCodec.pack(guess), 5);
+                assertEquals(rescan(guess, history), allowed, guess + " after " + history.size() + " guesses, target " + target);
+
+                int pattern = GameLogic.score(guess, target);
+                constraints.apply(WordCodec.pack(guess), pattern, 5);
+                history.add(new GuessResult(guess, pattern == FeedbackPattern.ALL_CORRECT, pattern));
+            }
+        }
+    }
+
+    /**
+     * The reference check: every previous result is read again
+     */
+    private static boolean rescan(String guess, List<GuessResult> history) {
+        for (GuessResult result : history) {
+            LetterFeedback[] feedback = result.getFeedback();
+            String previous = result.getGuess();
+            for (int i = 0; i < 5; i++) {
+                char letter = previous.charAt(i);
+                if (feedback[i] == LetterFeedback.CORRECT && guess.charAt(i) != letter) return false;
+
+                int found = 0;
+                for (int j = 0; j < 5; j++) {
+                    if (previous.charAt(j) == letter && feedback[j] != LetterFeedback.INCORRECT) found++;
+                }
+                if (found == 0 && feedback[i] == LetterFeedback.INCORRECT && guess.indexOf(letter) >= 0 && !foundBefore(letter, history)) {
+                    return false;
+                }
+                if (count(guess, letter) < found) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a letter was green or yellow in any previous result
+     */
+    private static boolean foundBefore(char letter, List<GuessResult> history) {
+        for (GuessResult result : history) {
+            LetterFeedback[] feedback = result.getFeedback();
+            for (int j = 0; j < 5; j++) {
+                if (result.getGuess().charAt(j) == letter && feedback[j] != LetterFeedback.INCORRECT) return true;
+            }
+        }
+        return false;
+    }
+
+    private static int count(String word, char letter) {
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) if (word.charAt(i) == letter) count++;
+        return count;
+    }
+}
@@ -0,0 +1,116 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.metrics.LatencyHistogram;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the MetricsRegistry and LatencyHistogram classes
+ */
+class MetricsRegistryTest {
+
+    /**
+     * Install the no-op registry after each test
+     */
+    @AfterEach
+    void tearDown() {
+        MetricsRegistry.install(MetricsRegistry.NOOP);
+    }
+
+    /**
+     * MetricsRegistry - UNIT TEST #1
+     * Result: Valid
+     * Reason: The guesses, invalid guesses, wins and losses of the games are counted
+     */
+    @Test
+    void install_PlayedGames_CountsEvents() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.install(metrics);
+
+        GameLogic won = new GameLogic("HELLO");
+        won.checkGuess("WORLD");
+        won.checkGuess("HELLO");
+        assertThrows(IllegalArgumentException.class, () -> won.checkGuess("HI"));
+
+        GameLogic lost = new GameLogic("HELLO");
+        for (int i = 0; i < 6; i++) {
+            lost.checkGuess("WORLD");
+            lost.decrementAttempts();
+        }
+
+        assertEquals(8, metrics.getGuesses());
+        assertEquals(1, metrics.getInvalidGuesses());
+        assertEquals(1, metrics.getWins());
+        assertEquals(1, metrics.getLosses());
+        assertTrue(metrics.getCheckGuessLatency().getCount() <= metrics.getGuesses());
+        assertTrue(metrics.getValidations() >= 9);
+    }
+
+    /**
+     * MetricsRegistry - UNIT TEST #2
+     * Result: Valid
+     * Reason: The no-op registry records nothing
+     */
+    @Test
+    void noop_PlayedGame_RecordsNothing() {
+        new GameLogic("HELLO").checkGuess("HELLO");
+
+        assertEquals(0, MetricsRegistry.NOOP.getGuesses());
+        assertEquals(0, MetricsRegistry.NOOP.getWins());
+        assertEquals(0, MetricsRegistry.NOOP.getValidations());
+    }
+
+    /**
+     * MetricsRegistry - UNIT TEST #3
+     * Result: Valid
+     * Reason: The metrics are readable through JMX and in the text dump
+     */
+    @Test
+    void registerMBean_Registered_ExposesCounters() throws JMException {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.install(metrics);
+        new GameLogic("HELLO").checkGuess("HELLO");
+
+        ObjectName name = metrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(1L, server.getAttribute(name, "Guesses"));
+            assertEquals(1L, server.getAttribute(name, "Wins"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+        assertTrue(metrics.dump().contains("guesses=1 invalid_guesses=0 wins=1 losses=0"));
+    }
+
+    /**
+     * LatencyHistogram - UNIT TEST #4
+     * Result: Valid
+     * Reason: The percentiles are within 1/16 of the real values
+     */
+    @Test
+    void getPercentile_UniformValues_IsAccurate() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) histogram.record(value);
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000.5, histogram.getMean(), 1e-9);
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            double expected = percentile * 1000;
+            long actual = histogram.getPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * (1 + 1.0 / 16), percentile + ": " + actual);
+        }
+        assertEquals(100_000, histogram.getPercentile(100));
+    }
+}
@@ -0,0 +1,246 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.engine.PreparedTarget;
+import fr.haizen.wordle.metrics.MetricsRegistry;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.objects.Word;
+import fr.haizen.wordle.race.RaceEvent;
+import fr.haizen.wordle.race.RaceListener;
+import fr.haizen.wordle.race.RaceManager;
+import fr.haizen.wordle.race.RaceRoom;
+import fr.haizen.wordle.utils.WordCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the race rooms (RaceManager, RaceRoom, PreparedTarget)
+ */
+class RaceRoomTest {
+
+    /**
+     * Create fake answers (sorted: brick = 0, hello = 1, world = 2)
+     */
+    private static final WordList ANSWERS = WordList.of(List.of("HELLO", "WORLD", "BRICK"));
+
+    /**
+     * Instance of the race manager (2 dispatcher threads)
+     */
+    private RaceManager raceManager;
+
+    /**
+     * Set up the race manager before each test
+     */
+    @BeforeEach
+    void setUp() {
+        raceManager = new RaceManager(ANSWERS, 4, 2);
+    }
+
+    /**
+     * Stop the race manager after each test
+     */
+    @AfterEach
+    void tearDown() {
+        raceManager.close();
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #1
+     * Result: Valid
+     * Reason: A prepared target scores like the game rules, repeated letters included
+     */
+    @Test
+    void preparedTarget_RandomWords_MatchesGameLogic() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 10_000; i++) {
+            String target = TestWords.randomWord(random, 6), guess = TestWords.randomWord(random, 6);
+            PreparedTarget prepared = new PreparedTarget(Word.of(target));
+            assertEquals(GameLogic.score(guess, target), prepared.score(WordCodec.pack(guess)), guess + " / " + target);
+        }
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #2
+     * Result: Valid
+     * Reason: The guesses are broadcast as colors, in order, with the finishing position of the winners
+     */
+    @Test
+    void guess_TwoPlayers_BroadcastsTheProgress() throws InterruptedException {
+        RaceRoom room = raceManager.create(1);
+        List<RaceEvent> events = new ArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(3);
+        room.subscribe((source, batch) -> {
+            synchronized (events) {
+                events.addAll(batch);
+            }
+            batch.forEach(event -> delivered.countDown());
+        });
+
+        int alice = room.join("alice");
+        int bob = room.join("bob");
+        assertEquals(2, room.getPlayerCount());
+
+        assertFalse(room.guess(alice, "world").isCorrect());
+        assertTrue(room.guess(bob, "HELLO").isCorrect());
+        assertTrue(room.guess(alice, "hello").isCorrect());
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("alice", "bob", "alice"), events.stream().map(RaceEvent::getPlayerName).toList());
+        assertArrayEquals(new LetterFeedback[]{LetterFeedback.INCORRECT, LetterFeedback.WRONG_POSITION,
+                LetterFeedback.INCORRECT, LetterFeedback.CORRECT, LetterFeedback.INCORRECT}, events.get(0).getFeedback());
+        assertEquals(List.of(0, 1, 2), events.stream().map(RaceEvent::getRank).toList());
+        assertEquals(List.of(1, 1, 2), events.stream().map(RaceEvent::getAttempt).toList());
+        assertEquals(2, room.getWinnerCount());
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #3
+     * Result: Invalid
+     * Reason: No guess after the end of the game, the word stays hidden until then, and the rooms have a max of players
+     */
+    @Test
+    void guess_InvalidRequests_AreRejected() {
+        RaceRoom room = raceManager.create(0);
+        int player = room.join("alice");
+
+        assertThrows(IllegalStateException.class, () -> room.getTargetWord(player));
+        assertThrows(IllegalArgumentException.class, () -> room.guess(player, "BRIC"));
+        assertThrows(NoSuchElementException.class, () -> room.guess(3, "BRICK"));
+        assertTrue(room.guess(player, "BRICK").isCorrect());
+        assertThrows(IllegalStateException.class, () -> room.guess(player, "BRICK"));
+        assertEquals("BRICK", room.getTargetWord(player));
+
+        for (int i = 1; i < 4; i++) room.join("player " + i);
+        assertThrows(IllegalStateException.class, () -> room.join("late"));
+        assertThrows(NoSuchElementException.class, () -> raceManager.room(room.getId() + 1));
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #4
+     * Result: Valid
+     * Reason: Concurrent guesses in many rooms are delivered once, by batches, in order per player, one batch at a time per room
+     */
+    @Test
+    void guess_ConcurrentRooms_DeliveredOnceInOrder() throws Exception {
+        int roomCount = 8;
+        int guesses = 4;
+        AtomicInteger delivered = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(roomCount * 4 * guesses);
+
+        List<RaceRoom> rooms = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            RaceRoom room = raceManager.create(i % ANSWERS.size());
+            int[] lastAttempts = new int[4];
+            AtomicBoolean delivering = new AtomicBoolean();
+            room.subscribe((source, batch) -> {
+                /*
+                 * A single batch at a time per room, and the attempts of each player in order
+                 */
+                if (!delivering.compareAndSet(false, true)) failed.set(true);
+                for (RaceEvent event : batch) {
+                    if (event.getAttempt() != ++lastAttempts[event.getPlayerId()]) failed.set(true);
+                    delivered.incrementAndGet();
+                    done.countDown();
+                }
+                delivering.set(false);
+            });
+            for (int player = 0; player < 4; player++) room.join("player " + player);
+            rooms.add(room);
+        }
+
+        /*
+         * Each thread plays a player of every room (never the winning word, so every guess is played)
+         */
+        ExecutorService players = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int player = 0; player < 4; player++) {
+                int playerId = player;
+                futures.add(players.submit(() -> {
+                    for (int i = 0; i < guesses; i++) {
+                        for (RaceRoom room : rooms) room.guess(playerId, "AAAAA");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            players.shutdownNow();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+        assertEquals(roomCount * 4 * guesses, delivered.get());
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #5
+     * Result: Invalid
+     * Reason: A failing subscriber is counted in the metrics, the other subscribers still get the events
+     */
+    @Test
+    void guess_FailingListener_IsCountedInMetrics() throws InterruptedException {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MetricsRegistry.install(metrics);
+        try {
+            RaceRoom room = raceManager.create(1);
+            CountDownLatch delivered = new CountDownLatch(1);
+            room.subscribe((source, batch) -> {
+                throw new IllegalStateException("Listener failure");
+            });
+            room.subscribe((source, batch) -> delivered.countDown());
+
+            room.guess(room.join("alice"), "HELLO");
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(1, metrics.getListenerFailures());
+        } finally {
+            MetricsRegistry.install(MetricsRegistry.NOOP);
+        }
+    }
+
+    /**
+     * RaceRoom - UNIT TEST #6
+     * Result: Valid
+     * Reason: A subscriber throwing an error doesn't stop the delivery of the next events
+     */
+    @Test
+    void guess_ListenerError_KeepsDelivering() throws InterruptedException {
+        RaceRoom room = raceManager.create(1);
+        AtomicBoolean thrown = new AtomicBoolean();
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(2);
+        room.subscribe((source, batch) -> {
+            batch.forEach(event -> delivered.countDown());
+            if (thrown.compareAndSet(false, true)) {
+                first.countDown();
+                throw new AssertionError("Listener error");
+            }
+        });
+
+        int player = room.join("alice");
+        room.guess(player, "WORLD");
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        room.guess(player, "BRICK");
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+}
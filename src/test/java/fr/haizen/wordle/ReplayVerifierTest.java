@@ -0,0 +1,148 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.daily.DailyWordScheduler;
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.objects.LetterFeedback;
+import fr.haizen.wordle.verify.ReplayVerifier;
+import fr.haizen.wordle.verify.VerificationReport;
+import fr.haizen.wordle.verify.Verdict;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the ReplayVerifier class
+ */
+class ReplayVerifierTest {
+
+    /**
+     * The possible answers (sorted: built = 0, crane = 1, slate = 2, trace = 3)
+     */
+    private static final WordList ANSWERS = WordList.of(List.of("crane", "slate", "trace", "built"));
+
+    /**
+     * Instance of the verifier (6 attempts, games identified by answer index)
+     */
+    private final ReplayVerifier verifier = new ReplayVerifier(ForkJoinPool.commonPool(), ANSWERS, 6);
+
+    /**
+     * ReplayVerifier - UNIT TEST #1
+     * Result: Valid
+     * Reason: A won game and a lost game replay with the same feedback
+     */
+    @Test
+    void verify_HonestGames_IsValid() {
+        assertEquals(Verdict.VALID, verifier.verify("1 slate:WWGWG crane:GGGGG"));
+        assertEquals(Verdict.VALID, verifier.verify("1  " + "BUILT:WWWWW ".repeat(6)));
+    }
+
+    /**
+     * ReplayVerifier - UNIT TEST #2
+     * Result: Invalid
+     * Reason: Forged feedback, rows after the win, too many rows, unfinished or unreadable games
+     */
+    @Test
+    void verify_CheatedGames_AreFlagged() {
+        assertEquals(Verdict.FEEDBACK_MISMATCH, verifier.verify("1 slate:WWGWG trace:GGGGG"));
+        assertEquals(Verdict.GUESS_AFTER_WIN, verifier.verify("1 crane:GGGGG crane:GGGGG"));
+        assertEquals(Verdict.TOO_MANY_GUESSES, verifier.verify("1 " + "built:WWWWW ".repeat(7)));
+        assertEquals(Verdict.INCOMPLETE, verifier.verify("1 slate:WWGWG"));
+        assertEquals(Verdict.MALFORMED, verifier.verify("1 slate=WWGWG"));
+        assertEquals(Verdict.MALFORMED, verifier.verify("1"));
+        assertEquals(Verdict.MALFORMED, verifier.verify("1 slate:WWXWG"));
+        assertEquals(Verdict.UNKNOWN_GAME, verifier.verify("4 crane:GGGGG"));
+        assertEquals(Verdict.UNKNOWN_GAME, verifier.verify("2026-10-18 crane:GGGGG"));
+    }
+
+    /**
+     * ReplayVerifier - UNIT TEST #3
+     * Result: Valid
+     * Reason: A stream of several chunks is verified, the flagged games are written in order with their line number
+     */
+    @Test
+    void verify_Stream_WritesFlaggedGamesInOrder() throws IOException {
+        SplittableRandom random = new SplittableRandom(5);
+        StringBuilder games = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        int count = 150_000;
+
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) words.add(TestWords.randomWord(random, 26));
+        WordList answers = WordList.of(words);
+        ReplayVerifier verifier = new ReplayVerifier(ForkJoinPool.commonPool(), answers, 6);
+
+        for (int line = 1; line <= count; line++) {
+            int answerIndex = random.nextInt(answers.size());
+            String answer = answers.word(answerIndex);
+            String guess = TestWords.randomWord(random, 26);
+            String feedback = format(GameLogic.generateFeedback(guess, answer));
+
+            /*
+             * Every 1000th game claims a win on its second row
+             */
+            String game = line % 1000 == 0
+                    ? answerIndex + " " + guess + ":" + feedback + " " + guess + ":GGGGG"
+                    : answerIndex + " " + guess + ":" + feedback + " " + answer + ":GGGGG";
+            if (line % 1000 == 0 && !guess.equals(answer)) {
+                expected.append(line).append('\t').append(Verdict.FEEDBACK_MISMATCH).append('\t').append(game).append('\n');
+            }
+            games.append(game).append('\n');
+        }
+
+        StringWriter flagged = new StringWriter();
+        VerificationReport report = verifier.verify(new StringReader(games.toString()), flagged);
+
+        assertEquals(count, report.getGames());
+        assertEquals(expected.toString(), flagged.toString());
+        assertEquals(report.getFlagged(), report.getCount(Verdict.FEEDBACK_MISMATCH));
+    }
+
+    /**
+     * ReplayVerifier - UNIT TEST #4
+     * Result: Invalid
+     * Reason: The answer is looked up by the verifier (answer index or day), a game claiming its own answer is flagged
+     */
+    @Test
+    void verify_ForgedAnswer_IsFeedbackMismatch() {
+        assertEquals(Verdict.MALFORMED, verifier.verify("crane crane:GGGGG"));
+        assertEquals(Verdict.FEEDBACK_MISMATCH, verifier.verify("3 crane:GGGGG"));
+        assertEquals(Verdict.VALID, verifier.verify("3 trace:GGGGG"));
+
+        /*
+         * A daily game: the answer of the day, from the same answers
+         */
+        Clock clock = Clock.fixed(LocalDate.of(2026, 10, 18).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        DailyWordScheduler daily = new DailyWordScheduler(ANSWERS, 42, 7, Runnable::run, clock);
+        ReplayVerifier dailyVerifier = new ReplayVerifier(ForkJoinPool.commonPool(), ANSWERS, daily, 6);
+        String answer = daily.answer(LocalDate.of(2026, 10, 18));
+        String forged = answer.equals("crane") ? "slate" : "crane";
+
+        assertEquals(Verdict.VALID, dailyVerifier.verify("2026-10-18 " + answer + ":GGGGG"));
+        assertEquals(Verdict.FEEDBACK_MISMATCH, dailyVerifier.verify("2026-10-18 " + forged + ":GGGGG"));
+        assertEquals(Verdict.MALFORMED, dailyVerifier.verify("2026-13-45 " + answer + ":GGGGG"));
+    }
+
+    private static String format(LetterFeedback[] feedback) {
+        StringBuilder text = new StringBuilder();
+        for (LetterFeedback letter : feedback) {
+            text.append(switch (letter) {
+                case CORRECT -> 'G';
+                case WRONG_POSITION -> 'Y';
+                case INCORRECT -> 'W';
+            });
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.objects.GuessResult;
+import fr.haizen.wordle.server.SessionManager;
+import fr.haizen.wordle.server.SessionState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the SessionManager class
+ */
+class SessionManagerTest {
+
+    /**
+     * Create fake answers (sorted: brick = 0, hello = 1, world = 2)
+     */
+    private static final WordList ANSWERS = WordList.of(List.of("HELLO", "WORLD", "BRICK"));
+
+    /**
+     * Instance of the session manager
+     */
+    private SessionManager sessionManager;
+
+    /**
+     * Set up the session manager before each test
+     */
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager(ANSWERS, Duration.ofMinutes(10));
+    }
+
+    /**
+     * Stop the session manager after each test
+     */
+    @AfterEach
+    void tearDown() {
+        sessionManager.close();
+    }
+
+    /**
+     * SessionManager - UNIT TEST #1
+     * Result: Valid
+     * Reason: The right word wins the game and reveals the word
+     */
+    @Test
+    void guess_CorrectWord_WinsTheGame() {
+        long sessionId = sessionManager.create(1);
+        assertFalse(sessionManager.guess(sessionId, "WORLD").isCorrect());
+        assertTrue(sessionManager.guess(sessionId, "hello").isCorrect());
+
+        SessionState state = sessionManager.state(sessionId);
+        assertTrue(state.isWon());
+        assertTrue(state.isGameOver());
+        assertEquals("HELLO", state.getTargetWord());
+        assertEquals(List.of("WORLD", "HELLO"), state.getGuesses().stream().map(GuessResult::getGuess).toList());
+        assertThrows(IllegalStateException.class, () -> sessionManager.guess(sessionId, "BRICK"));
+    }
+
+    /**
+     * SessionManager - UNIT TEST #2
+     * Result: Valid
+     * Reason: Concurrent guesses are all counted once, never more than the max attempts
+     */
+    @Test
+    void guess_ConcurrentGuesses_NeverExceedsMaxAttempts() throws Exception {
+        long sessionId = sessionManager.create(0);
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        sessionManager.guess(sessionId, "WORLD");
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException ignored) {
+                        // the game is over
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        SessionState state = sessionManager.state(sessionId);
+        assertEquals(6, accepted.get());
+        assertEquals(6, state.getGuesses().size());
+        assertEquals(0, state.getRemainingAttempts());
+        assertFalse(state.isWon());
+    }
+
+    /**
+     * SessionManager - UNIT TEST #3
+     * Result: Valid
+     * Reason: A running game doesn't reveal the word
+     */
+    @Test
+    void state_RunningGame_HidesTheWord() {
+        long sessionId = sessionManager.create();
+        SessionState state = sessionManager.state(sessionId);
+        assertEquals(6, state.getRemainingAttempts());
+        assertNull(state.getTargetWord());
+    }
+
+    /**
+     * SessionManager - UNIT TEST #4
+     * Result: Valid
+     * Reason: The idle sessions are evicted
+     */
+    @Test
+    void evictIdle_IdleSessions_AreRemoved() throws InterruptedException {
+        try (SessionManager shortLived = new SessionManager(ANSWERS, Duration.ofMillis(1))) {
+            long sessionId = shortLived.create();
+            Thread.sleep(20);
+            shortLived.evictIdle();
+            assertEquals(0, shortLived.size());
+            assertThrows(NoSuchElementException.class, () -> shortLived.state(sessionId));
+        }
+    }
+
+    /**
+     * SessionManager - UNIT TEST #5
+     * Result: Invalid
+     * Reason: The guess is not a valid word
+     */
+    @Test
+    void guess_InvalidWord_ThrowsException() {
+        long sessionId = sessionManager.create();
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.guess(sessionId, "HELL0"));
+        assertEquals(6, sessionManager.state(sessionId).getRemainingAttempts());
+    }
+}
@@ -0,0 +1,84 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.simulation.RandomStrategy;
+import fr.haizen.wordle.simulation.SimulationReport;
+import fr.haizen.wordle.simulation.Simulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the Simulator class
+ */
+class SimulatorTest {
+
+    /**
+     * The words to guess
+     */
+    private static final List<String> WORDS = List.of("hello", "world", "lemon", "level", "tiger", "crane", "slate", "brick");
+
+    /**
+     * Instance of the simulator
+     */
+    private final Simulator simulator = new Simulator(ForkJoinPool.commonPool());
+
+    /**
+     * Simulator - UNIT TEST #1
+     * Result: Valid
+     * Reason: Every game is counted once, and every game won is in the histogram
+     */
+    @Test
+    void run_RandomStrategy_CountsEveryGame() {
+        SimulationReport report = simulator.run(new RandomStrategy(WORDS), WORDS, 1000);
+
+        assertAll(
+                () -> assertEquals(1000, report.getGames()),
+                () -> assertEquals(report.getWins(), Arrays.stream(report.getHistogram()).sum()),
+                () -> assertEquals(1.0, report.getWinRate())
+        );
+    }
+
+    /**
+     * Simulator - UNIT TEST #2
+     * Result: Valid
+     * Reason: A strategy that never finds the word loses every game
+     */
+    @Test
+    void run_WrongGuesses_LosesEveryGame() {
+        SimulationReport report = simulator.run(history -> "zzzzz", WORDS, 200);
+
+        assertAll(
+                () -> assertEquals(200, report.getLosses()),
+                () -> assertArrayEquals(new long[6], report.getHistogram())
+        );
+    }
+
+    /**
+     * Simulator - UNIT TEST #3
+     * Result: Valid
+     * Reason: A strategy guessing the same word wins in one guess against it
+     */
+    @Test
+    void run_FirstGuessCorrect_WinsInOneGuess() {
+        SimulationReport report = simulator.run(history -> "crane", List.of("crane"), 100);
+        assertEquals(100, report.getHistogram()[0]);
+    }
+
+    /**
+     * Simulator - UNIT TEST #4
+     * Result: Invalid
+     * Reason: There is no word to guess
+     */
+    @Test
+    void run_NoTargets_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(new RandomStrategy(WORDS), List.of(), 10));
+    }
+}
@@ -0,0 +1,177 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.engine.FeedbackPattern;
+import fr.haizen.wordle.stats.GameRecord;
+import fr.haizen.wordle.stats.PlayerStats;
+import fr.haizen.wordle.stats.StatsRecorder;
+import fr.haizen.wordle.stats.StatsStore;
+import fr.haizen.wordle.stats.WordStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the StatsStore class
+ */
+class StatsStoreTest {
+
+    /**
+     * StatsStore - UNIT TEST #1
+     * Result: Valid
+     * Reason: The statistics are aggregated from the records (streaks, distribution, per word)
+     */
+    @Test
+    void record_Games_AggregatesStatistics(@TempDir Path directory) throws IOException {
+        try (StatsStore store = StatsStore.open(directory)) {
+            store.record(won(1, 10, 3));
+            store.record(won(1, 11, 2));
+            store.record(lost(1, 10));
+            store.record(won(1, 12, 3));
+            store.record(won(2, 10, 1));
+
+            PlayerStats player = store.player(1);
+            WordStats word = store.word(10);
+            assertAll(
+                    () -> assertEquals(4, player.getGames()),
+                    () -> assertEquals(3, player.getWins()),
+                    () -> assertEquals(1, player.getCurrentStreak()),
+                    () -> assertEquals(2, player.getMaxStreak()),
+                    () -> assertArrayEquals(new int[]{0, 1, 2}, Arrays.copyOf(player.getDistribution(), 3)),
+                    () -> assertEquals(3, word.getGames()),
+                    () -> assertEquals(2.0, word.getAverageGuesses()),
+                    () -> assertEquals(2, store.playerCount())
+            );
+        }
+    }
+
+    /**
+     * StatsStore - UNIT TEST #2
+     * Result: Valid
+     * Reason: The aggregate is the same after a restart, from a snapshot and the records after it (several segments)
+     */
+    @Test
+    void open_SnapshotAndSegments_RebuildsAggregate(@TempDir Path directory) throws IOException {
+        try (StatsStore store = StatsStore.open(directory, 256, 7)) {
+            for (int i = 0; i < 50; i++) store.record(i % 5 == 4 ? lost(i % 3, i) : won(i % 3, i, 1 + i % 6));
+        }
+
+        /*
+         * Remove the last snapshot (a crash), the log is read again from the beginning
+         */
+        PlayerStats fromSnapshot;
+        try (StatsStore store = StatsStore.open(directory, 256, 7)) {
+            fromSnapshot = store.player(1);
+        }
+        Files.delete(directory.resolve("snapshot.bin"));
+
+        try (StatsStore store = StatsStore.open(directory, 256, 7); Stream<Path> files = Files.list(directory)) {
+            PlayerStats fromLog = store.player(1);
+            assertTrue(files.filter(file -> file.getFileName().toString().startsWith("segment-")).count() > 1);
+            assertAll(
+                    () -> assertEquals(17, fromLog.getGames()),
+                    () -> assertEquals(fromSnapshot.getGames(), fromLog.getGames()),
+                    () -> assertEquals(fromSnapshot.getWins(), fromLog.getWins()),
+                    () -> assertEquals(fromSnapshot.getMaxStreak(), fromLog.getMaxStreak()),
+                    () -> assertArrayEquals(fromSnapshot.getDistribution(), fromLog.getDistribution())
+            );
+        }
+    }
+
+    /**
+     * StatsStore - UNIT TEST #3
+     * Result: Valid
+     * Reason: An incomplete record at the end of the log (torn write) is dropped, the next records are appended
+     */
+    @Test
+    void open_TornRecord_TruncatesLog(@TempDir Path directory) throws IOException {
+        try (StatsStore store = StatsStore.open(directory)) {
+            store.record(won(1, 0, 2));
+        }
+        Files.delete(directory.resolve("snapshot.bin"));
+        Files.write(directory.resolve("segment-000000.log"), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (StatsStore store = StatsStore.open(directory)) {
+            assertEquals(1, store.player(1).getGames());
+            store.record(won(1, 1, 4));
+        }
+        Files.delete(directory.resolve("snapshot.bin"));
+
+        try (StatsStore store = StatsStore.open(directory)) {
+            assertEquals(2, store.player(1).getWins());
+        }
+    }
+
+    /**
+     * StatsStore - UNIT TEST #4
+     * Result: Valid
+     * Reason: The recorder listens to a game and records its outcome
+     */
+    @Test
+    void statsRecorder_GameWon_RecordsGame(@TempDir Path directory) throws IOException {
+        try (StatsStore store = StatsStore.open(directory)) {
+            GameLogic gameLogic = new GameLogic("HELLO");
+            gameLogic.addListener(new StatsRecorder(store, 7, 3));
+            gameLogic.checkGuess("WORLD");
+            gameLogic.decrementAttempts();
+            gameLogic.checkGuess("HELLO");
+
+            assertEquals(1, store.player(7).getDistribution()[1]);
+            assertEquals(1, store.word(3).getWins());
+        }
+    }
+
+    /**
+     * StatsStore - UNIT TEST #5
+     * Result: Invalid
+     * Reason: A game record has at most one row per attempt
+     */
+    @Test
+    void gameRecord_TooManyRows_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new GameRecord(1, 0, 5, new int[16], 0));
+    }
+
+    /**
+     * StatsStore - UNIT TEST #6
+     * Result: Valid
+     * Reason: A game lost without a guess is recorded as a loss, and read back from the log
+     */
+    @Test
+    void statsRecorder_GameLostWithoutGuess_RecordsLoss(@TempDir Path directory) throws IOException {
+        try (StatsStore store = StatsStore.open(directory)) {
+            GameLogic gameLogic = new GameLogic("HELLO");
+            gameLogic.addListener(new StatsRecorder(store, 7, 3));
+            while (!gameLogic.isGameOver()) gameLogic.decrementAttempts();
+
+            assertEquals(1, store.player(7).getGames());
+            assertEquals(0, store.player(7).getWins());
+        }
+        try (StatsStore store = StatsStore.open(directory)) {
+            assertEquals(1, store.player(7).getGames());
+            assertEquals(1, store.word(3).getGames());
+            assertEquals(0, store.word(3).getWins());
+        }
+    }
+
+    private static GameRecord won(long playerId, int answerIndex, int guesses) {
+        int[] patterns = new int[guesses];
+        patterns[guesses - 1] = FeedbackPattern.ALL_CORRECT;
+        return new GameRecord(playerId, answerIndex, 5, patterns, System.currentTimeMillis());
+    }
+
+    private static GameRecord lost(long playerId, int answerIndex) {
+        return new GameRecord(playerId, answerIndex, 5, new int[6], System.currentTimeMillis());
+    }
+}
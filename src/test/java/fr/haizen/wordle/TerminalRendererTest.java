@@ -0,0 +1,94 @@
+package fr.haizen.wordle;
+
+import com.diogonunes.jcolor.Attribute;
+import fr.haizen.wordle.render.TerminalRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the TerminalRenderer class
+ */
+class TerminalRendererTest {
+
+    /**
+     * The output of the renderer
+     */
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    /**
+     * Instance of the renderer
+     */
+    private final TerminalRenderer renderer = new TerminalRenderer(new PrintStream(output, true, StandardCharsets.UTF_8), 6, 5);
+
+    /**
+     * TerminalRenderer - UNIT TEST #1
+     * Result: Valid
+     * Reason: Only the first frame clears the screen
+     */
+    @Test
+    void render_SecondFrame_DoesNotClearScreen() {
+        renderer.render();
+        assertTrue(frame().startsWith("\033[H\033[2J"));
+
+        renderer.render();
+        assertFalse(frame().contains("\033[2J"));
+    }
+
+    /**
+     * TerminalRenderer - UNIT TEST #2
+     * Result: Valid
+     * Reason: After a guess, only the tiles of its row are drawn again
+     */
+    @Test
+    void render_AfterGuess_DrawsOnlyChangedRow() {
+        renderer.setStatus("Remaining attempts: 6", Attribute.YELLOW_TEXT());
+        renderer.render();
+        frame();
+
+        renderer.submit(0, new GameLogic("WORLD").checkGuess("HELLO"));
+        renderer.render();
+        String frame = frame();
+
+        assertTrue(frame.contains("[H") && frame.contains("[O"));
+        assertFalse(frame.contains("[ ]"));
+        assertFalse(frame.contains("Remaining attempts"));
+    }
+
+    /**
+     * TerminalRenderer - UNIT TEST #3
+     * Result: Valid
+     * Reason: A changed status line is drawn again, with a cursor move
+     */
+    @Test
+    void render_ChangedStatus_DrawsStatusLine() {
+        renderer.setStatus("Remaining attempts: 6", Attribute.YELLOW_TEXT());
+        renderer.render();
+        frame();
+
+        renderer.submit(0, new GameLogic("HELLO").checkGuess("HELLO"));
+        renderer.setStatus("Remaining attempts: 5", Attribute.YELLOW_TEXT());
+        renderer.render();
+        String frame = frame();
+
+        assertTrue(frame.contains("Remaining attempts: 5"));
+        assertTrue(frame.contains("\033[2K"));
+    }
+
+    /**
+     * Get the output since the last call
+     *
+     * @return the frame
+     */
+    private String frame() {
+        String frame = output.toString(StandardCharsets.UTF_8);
+        output.reset();
+        return frame;
+    }
+}
@@ -0,0 +1,64 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.utils.WordUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class creates the random words shared by the unit tests (5 letters, seeded so the tests stay deterministic)
+ * Few letters give many repeated letters, all the alphabet gives mostly distinct letters
+ */
+final class TestWords {
+
+    private TestWords() {
+    }
+
+    /**
+     * Create a random word
+     *
+     * @param random      the random generator
+     * @param letterCount the number of letters to pick from (from 'a')
+     * @return the word (lower case)
+     */
+    static String randomWord(SplittableRandom random, int letterCount) {
+        char[] letters = new char[WordUtils.WORD_LENGTH];
+        for (int i = 0; i < letters.length; i++) letters[i] = (char) ('a' + random.nextInt(letterCount));
+        return new String(letters);
+    }
+
+    /**
+     * Create distinct random words
+     *
+     * @param count       the number of words
+     * @param seed        the seed of the random generator
+     * @param letterCount the number of letters to pick from (from 'a')
+     * @return the words (lower case, in creation order)
+     */
+    static List<String> randomWords(int count, long seed, int letterCount) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < count) words.add(randomWord(random, letterCount));
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Create random packed words (repeats allowed)
+     *
+     * @param count       the number of words
+     * @param seed        the seed of the random generator
+     * @param letterCount the number of letters to pick from (from 'a')
+     * @return the words (see WordCodec)
+     */
+    static int[] randomPackedWords(int count, long seed, int letterCount) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] words = new int[count];
+        for (int i = 0; i < count; i++) words[i] = (int) WordCodec.pack(randomWord(random, letterCount));
+        return words;
+    }
+}
@@ -0,0 +1,183 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.dictionary.WordSet;
+import fr.haizen.wordle.objects.GameSettings;
+import fr.haizen.wordle.utils.WordUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the WordList and WordSet classes
+ */
+class WordListTest {
+
+    /**
+     * Remove the dictionary after each test
+     */
+    @AfterEach
+    void tearDown() {
+        WordUtils.setDictionary();
+    }
+
+    /**
+     * WordList - UNIT TEST #1
+     * Result: Valid
+     * Reason: The text file is sorted, deduplicated and in lower case
+     */
+    @Test
+    void fromText_UnsortedFile_ReturnsSortedWords(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("answers.txt"), "# answers\nWORLD\r\nhello\n\n  level  \nhello\n");
+        WordList words = WordList.fromText(file);
+        assertEquals(List.of("hello", "level", "world"), words.asList());
+    }
+
+    /**
+     * WordList - UNIT TEST #2
+     * Result: Valid
+     * Reason: A packed file is memory-mapped with the same words
+     */
+    @Test
+    void pack_TextFile_OpensSameWords(@TempDir Path directory) throws IOException {
+        Path text = Files.writeString(directory.resolve("answers.txt"), "world\nhello\nlevel\n");
+        Path packed = directory.resolve("answers.bin");
+        WordList.pack(text, packed);
+
+        WordList words = WordList.load(packed);
+        assertEquals(15, Files.size(packed));
+        assertEquals(List.of("hello", "level", "world"), words.asList());
+        assertEquals(1, words.indexOf("LEVEL"));
+    }
+
+    /**
+     * WordList - UNIT TEST #3
+     * Result: Invalid
+     * Reason: The words not in the list are not found
+     */
+    @Test
+    void indexOf_UnknownWords_ReturnsMinusOne() {
+        WordList words = WordList.of(List.of("hello", "world"));
+        assertEquals(-1, words.indexOf("brick"));
+        assertEquals(-1, words.indexOf("héllo"));
+        assertEquals(-1, words.indexOf("hell"));
+    }
+
+    /**
+     * WordList - UNIT TEST #4
+     * Result: Invalid
+     * Reason: The text file contains a word with a digit
+     */
+    @Test
+    void fromText_InvalidWord_ThrowsException(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("answers.txt"), "hello\nhell0\n");
+        assertThrows(IOException.class, () -> WordList.fromText(file));
+    }
+
+    /**
+     * WordList - UNIT TEST #5
+     * Result: Invalid
+     * Reason: With a dictionary, a word must be in one of its lists
+     */
+    @Test
+    void isValidWord_WithDictionary_ChecksMembership() {
+        WordUtils.setDictionary(WordList.of(List.of("hello")), WordList.of(List.of("world")));
+        assertTrue(WordUtils.isValidWord("HELLO"));
+        assertTrue(WordUtils.isValidWord("world"));
+        assertFalse(WordUtils.isValidWord("BRICK"));
+    }
+
+    /**
+     * WordList - UNIT TEST #6
+     * Result: Valid
+     * Reason: The set finds packed words and words with accents
+     */
+    @Test
+    void wordSet_AsciiAndAccentWords_AreFound() {
+        WordSet set = WordSet.of(WordList.of(List.of("hello", "world")));
+        set.add("ÉTAGE");
+        set.add("hello");
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains("HELLO"));
+        assertTrue(set.contains("étage"));
+        assertFalse(set.contains("level"));
+        assertFalse(set.contains("hell0"));
+    }
+
+    /**
+     * WordList - UNIT TEST #7
+     * Result: Invalid
+     * Reason: A word set only contains words of 4 to 8 letters
+     */
+    @Test
+    void wordSet_AddLongWord_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new WordSet().add("CROSSWORD"));
+    }
+
+    /**
+     * WordList - UNIT TEST #8
+     * Result: Valid
+     * Reason: A word set contains words of other lengths
+     */
+    @Test
+    void wordSet_OtherLengths_ContainsWords() {
+        WordSet set = new WordSet();
+        set.add("PLANET");
+        set.add("word");
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains("planet"));
+        assertTrue(set.contains("WORD"));
+        assertFalse(set.contains("words"));
+    }
+
+    /**
+     * WordList - UNIT TEST #9
+     * Result: Invalid
+     * Reason: With a dictionary of 5-letter words, a 6-letter game is rejected at once, it plays with 6-letter words
+     */
+    @Test
+    void gameLogic_SixLettersWithDictionary_NeedsWordsOfThisLength() {
+        GameSettings settings = new GameSettings(6, 6);
+        WordUtils.setDictionary(WordList.of(List.of("hello", "world")));
+        assertFalse(WordUtils.isPlayableLength(6));
+        assertThrows(IllegalArgumentException.class, () -> new GameLogic("planet", settings));
+
+        WordSet set = WordSet.of(WordList.of(List.of("hello", "world")));
+        set.add("planet");
+        set.add("plants");
+        WordUtils.setDictionary(set);
+        assertTrue(WordUtils.isPlayableLength(6));
+        assertFalse(WordUtils.isPlayableLength(7));
+
+        GameLogic game = new GameLogic("planet", settings);
+        assertFalse(game.checkGuess("plants").isCorrect());
+        assertThrows(IllegalArgumentException.class, () -> game.checkGuess("zzzzzz"));
+        assertTrue(game.checkGuess("PLANET").isCorrect());
+    }
+
+    /**
+     * WordList - UNIT TEST #10
+     * Result: Invalid
+     * Reason: An accented letter at the start or the end of a line is not trimmed as a space
+     */
+    @Test
+    void fromText_AccentedLetterAtLineEdge_ThrowsException(@TempDir Path directory) throws IOException {
+        Path leading = Files.writeString(directory.resolve("leading.txt"), "hello\nélever\n");
+        Path trailing = Files.writeString(directory.resolve("trailing.txt"), "hello\nlevelé\n");
+        assertThrows(IOException.class, () -> WordList.fromText(leading));
+        assertThrows(IOException.class, () -> WordList.fromText(trailing));
+    }
+}
@@ -1,9 +1,12 @@
 package fr.haizen.wordle;
 
+import fr.haizen.wordle.objects.Word;
 import fr.haizen.wordle.utils.WordUtils;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -81,4 +84,20 @@ class WordUtilsTest {
     void validateWord_EmptyWord_ReturnsFalse() {
         assertFalse(WordUtils.isValidWord(""));
     }
-} 
\ No newline at end of file
+
+    /**
+     * WordUtils - UNIT TEST #8
+     * Result: Valid
+     * Reason: A word is packed once (case insensitive), only ASCII letters can be packed
+     */
+    @Test
+    void word_PackedOnce_IsCaseInsensitive() {
+        Word word = Word.of("HeLLo");
+        assertEquals(Word.of("hello"), word);
+        assertEquals("hello", word.toString());
+        assertEquals("HELLO", word.toUpperCase());
+        assertTrue(WordUtils.isValidWord(word, 5));
+        assertFalse(WordUtils.isValidWord(word, 6));
+        assertThrows(IllegalArgumentException.class, () -> Word.of("héllo"));
+    }
+}
@@ -0,0 +1,142 @@
+package fr.haizen.wordle;
+
+import fr.haizen.wordle.dictionary.WordList;
+import fr.haizen.wordle.server.SessionManager;
+import fr.haizen.wordle.server.WordleServer;
+import fr.haizen.wordle.utils.WordCodec;
+import fr.haizen.wordle.wire.GameCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * This class defines the unit tests for the WordleServer class (HTTP API)
+ */
+class WordleServerTest {
+
+    /**
+     * Instance of the server (one answer: HELLO)
+     */
+    private WordleServer server;
+
+    /**
+     * The HTTP client
+     */
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Start the server before each test
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        SessionManager sessionManager = new SessionManager(WordList.of(List.of("HELLO")), Duration.ofMinutes(1));
+        server = new WordleServer(sessionManager, new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+    }
+
+    /**
+     * Stop the server after each test
+     */
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    /**
+     * WordleServer - UNIT TEST #1
+     * Result: Valid
+     * Reason: A game is created, played and read over HTTP
+     */
+    @Test
+    void endpoints_FullGame_ReturnsFeedbackAndState() throws Exception {
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/games")).POST(HttpRequest.BodyPublishers.noBody()));
+        assertEquals(201, created.statusCode());
+        String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+
+        HttpResponse<String> guess = send(HttpRequest.newBuilder(uri("/games/" + id + "/guesses")).POST(HttpRequest.BodyPublishers.ofString("hello")));
+        assertEquals(200, guess.statusCode());
+        assertTrue(guess.body().contains("\"correct\":true"));
+
+        HttpResponse<String> state = send(HttpRequest.newBuilder(uri("/games/" + id)).GET());
+        assertEquals(200, state.statusCode());
+        assertTrue(state.body().contains("\"targetWord\":\"HELLO\""));
+    }
+
+    /**
+     * WordleServer - UNIT TEST #2
+     * Result: Invalid
+     * Reason: Unknown game and invalid guess are rejected
+     */
+    @Test
+    void endpoints_InvalidRequests_ReturnErrors() throws Exception {
+        assertEquals(404, send(HttpRequest.newBuilder(uri("/games/abc")).GET()).statusCode());
+
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/games")).POST(HttpRequest.BodyPublishers.noBody()));
+        String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+        HttpResponse<String> guess = send(HttpRequest.newBuilder(uri("/games/" + id + "/guesses")).POST(HttpRequest.BodyPublishers.ofString("hell0")));
+        assertEquals(400, guess.statusCode());
+    }
+
+    /**
+     * WordleServer - UNIT TEST #3
+     * Result: Valid
+     * Reason: The state of a game is sent as a binary frame on request, the word stays hidden until the game is over
+     */
+    @Test
+    void endpoints_BinaryState_ReturnsGameFrame() throws Exception {
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/games")).POST(HttpRequest.BodyPublishers.noBody()));
+        String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+        send(HttpRequest.newBuilder(uri("/games/" + id + "/guesses")).POST(HttpRequest.BodyPublishers.ofString("world")));
+
+        HttpRequest.Builder binary = HttpRequest.newBuilder(uri("/games/" + id)).header("Accept", "application/octet-stream").GET();
+        ByteBuffer frame = ByteBuffer.wrap(client.send(binary.build(), HttpResponse.BodyHandlers.ofByteArray()).body());
+        assertEquals(GameCodec.encodedSize(1), GameCodec.frameSize(frame, 0));
+        assertEquals(GameCodec.HIDDEN_TARGET, GameCodec.targetId(frame, 0));
+        assertEquals("world", WordCodec.unpack(GameCodec.guess(frame, 0, 0), 5));
+
+        send(HttpRequest.newBuilder(uri("/games/" + id + "/guesses")).POST(HttpRequest.BodyPublishers.ofString("hello")));
+        frame = ByteBuffer.wrap(client.send(binary.build(), HttpResponse.BodyHandlers.ofByteArray()).body());
+        assertEquals(0, GameCodec.targetId(frame, 0));
+        assertTrue(GameCodec.isWon(frame, 0));
+    }
+
+    /**
+     * WordleServer - UNIT TEST #4
+     * Result: Valid
+     * Reason: The hard mode is read from the hard parameter, wherever it is in the query
+     */
+    @Test
+    void createGame_HardParameter_EnablesHardMode() throws Exception {
+        for (String query : List.of("hard=true", "hard=true&x=1", "x=1&hard=true")) {
+            HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/games?" + query)).POST(HttpRequest.BodyPublishers.noBody()));
+            String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+            assertTrue(send(HttpRequest.newBuilder(uri("/games/" + id)).GET()).body().contains("\"hardMode\":true"), query);
+        }
+
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/games?x=1&hard=false")).POST(HttpRequest.BodyPublishers.noBody()));
+        String id = created.body().replaceAll(".*\"id\":\"([0-9a-f]+)\".*", "$1");
+        assertTrue(send(HttpRequest.newBuilder(uri("/games/" + id)).GET()).body().contains("\"hardMode\":false"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,181 @@
+package fr.haizen.wordle.engine;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Created at 18/10/2026 - HaiZen
+ * The vector scoring backend (jdk.incubator.vector): each lane scores one pair, all the lanes with the same instructions
+ *
+ * The pairs are scored by blocks, one pass per position over a scratch array of patterns (a single pass over
+ * the 5 positions is too big for the JIT, which then stops inlining the Vector API and allocates every vector):
+ * the 5-bit letter codes of the guess and the answer are compared, the green letters are removed from both words
+ * (code 0, never a letter), then a removed letter is green, else the guess letter is yellow if the letters left
+ * of the answer have more of it than the earlier letters left of the guess (the same left to right rule as GameLogic.score)
+ *
+ * The 5 fields of a lane are compared at once (SWAR) and the comparisons give 0 or 1 per lane (plain arithmetic, no mask),
+ * so the flags are added and multiplied directly
+ * Only loaded by ScoringBackend when the module is present (the class can't be linked otherwise)
+ */
+final class VectorScoringBackend extends ScoringBackend {
+
+    /**
+     * The lanes (the widest shape of the CPU: 8 ints with AVX2, 16 with AVX-512)
+     */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * The number of pairs of a block (the scratch array stays in the L1 cache)
+     */
+    private static final int BLOCK = 512;
+
+    /**
+     * The number of letters of the words
+     */
+    private static final int LENGTH = 5;
+
+    /**
+     * The mask of a letter code
+     */
+    private static final int LETTER = 0x1F;
+
+    /**
+     * Multiplied by a letter code, the code repeated in the 5 fields of a packed word
+     */
+    private static final int SPREAD = 1 | 1 << 5 | 1 << 10 | 1 << 15 | 1 << 20;
+
+    /**
+     * The low bits (01111) and the high bit (10000) of the 5 fields of a packed word
+     */
+    private static final int LOW_BITS = 0xF * SPREAD, HIGH_BITS = 0x10 * SPREAD;
+
+    @Override
+    public String getName() {
+        return "vector";
+    }
+
+    @Override
+    public void score(int[] guesses, int[] answers, byte[] output, int from, int to) {
+        int[] patterns = new int[BLOCK];
+        int bound = from + SPECIES.loopBound(to - from);
+        for (int i = from; i < bound; i += BLOCK) {
+            scoreBlock(guesses, i, answers, i, Math.min(BLOCK, bound - i), output, patterns);
+        }
+        ScoringBackend.scalar().score(guesses, answers, output, bound, to);
+    }
+
+    @Override
+    public void scoreGuesses(int answer, int[] guesses, byte[] output, int from, int to) {
+        int[] patterns = new int[BLOCK];
+        int[] answers = new int[BLOCK];
+        Arrays.fill(answers, answer);
+
+        int bound = from + SPECIES.loopBound(to - from);
+        for (int i = from; i < bound; i += BLOCK) {
+            scoreBlock(guesses, i, answers, 0, Math.min(BLOCK, bound - i), output, patterns);
+        }
+        ScoringBackend.scalar().scoreGuesses(answer, guesses, output, bound, to);
+    }
+
+    /**
+     * Score a block of pairs
+     *
+     * @param guesses    the packed guesses
+     * @param guessFrom  the first guess of the block
+     * @param answers    the packed answers
+     * @param answerFrom the first answer of the block
+     * @param size       the number of pairs (a multiple of the lanes, at most BLOCK)
+     * @param output     the patterns (from guessFrom)
+     * @param patterns   the scratch patterns
+     */
+    private static void scoreBlock(int[] guesses, int guessFrom, int[] answers, int answerFrom, int size, byte[] output, int[] patterns) {
+        Arrays.fill(patterns, 0, size, 0);
+        for (int position = 0; position < LENGTH; position++) {
+            scorePosition(position, guesses, guessFrom, answers, answerFrom, size, patterns);
+        }
+
+        /*
+         * Narrow the patterns (0 - 242) to bytes
+         */
+        for (int i = 0; i < size; i++) output[guessFrom + i] = (byte) patterns[i];
+    }
+
+    /**
+     * Score a position of a block (green, yellow or white)
+     *
+     * @param position   the letter position
+     * @param guesses    the packed guesses
+     * @param guessFrom  the first guess of the block
+     * @param answers    the packed answers
+     * @param answerFrom the first answer of the block
+     * @param size       the number of pairs
+     * @param patterns   the scratch patterns (the digit of the position added)
+     */
+    private static void scorePosition(int position, int[] guesses, int guessFrom, int[] answers, int answerFrom, int size, int[] patterns) {
+        int shift = LENGTH * position;
+        int later = -(1 << shift);
+        int weight = FeedbackPattern.weight(position);
+
+        for (int i = 0; i < size; i += SPECIES.length()) {
+            IntVector guess = IntVector.fromArray(SPECIES, guesses, guessFrom + i);
+            IntVector answer = IntVector.fromArray(SPECIES, answers, answerFrom + i);
+
+            /*
+             * The green letters (the zero fields of the difference) are removed from both words
+             */
+            IntVector flags = zeroFields(guess.lanewise(VectorOperators.XOR, answer));
+            IntVector greens = flags.or(flags.sub(flags.lanewise(VectorOperators.LSHR, 4)));
+            IntVector guessLeft = guess.lanewise(VectorOperators.AND_NOT, greens);
+            IntVector answerLeft = answer.lanewise(VectorOperators.AND_NOT, greens);
+            IntVector letter = guessLeft.lanewise(VectorOperators.LSHR, shift).and(LETTER);
+
+            /*
+             * Green if the letter was removed. Yellow if the answer has more of the letter than the earlier guess letters
+             * (the fields of this position and the next ones are set, never zero), a removed letter matches the empty
+             * fields so its flag is cleared
+             */
+            IntVector green = zero(letter);
+            IntVector letters = letter.mul(SPREAD);
+            IntVector available = count(answerLeft.lanewise(VectorOperators.XOR, letters));
+            IntVector used = count(guessLeft.lanewise(VectorOperators.XOR, letters).or(later));
+            IntVector yellow = used.sub(available).lanewise(VectorOperators.LSHR, 31).and(green.not());
+
+            IntVector.fromArray(SPECIES, patterns, i).add(green.add(green).add(yellow).mul(weight)).intoArray(patterns, i);
+        }
+    }
+
+    /**
+     * Flag the zero fields of packed words (SWAR: the low bits of a field added to 01111 carry into its high bit)
+     *
+     * @param words the packed words
+     * @return the high bit (16) of each zero field set, the other bits clear
+     */
+    private static IntVector zeroFields(IntVector words) {
+        IntVector nonZero = words.and(LOW_BITS).add(LOW_BITS).or(words);
+        return nonZero.not().and(HIGH_BITS);
+    }
+
+    /**
+     * Count the zero fields of packed words (the flags are summed into the top field by the multiplication)
+     *
+     * @param words the packed words (a packed word XOR a letter in every field)
+     * @return the number of zero fields of each lane
+     */
+    private static IntVector count(IntVector words) {
+        return zeroFields(words).lanewise(VectorOperators.LSHR, 4).mul(SPREAD)
+                .lanewise(VectorOperators.LSHR, LENGTH * (LENGTH - 1)).and(LETTER);
+    }
+
+    /**
+     * Flag the lanes equal to zero
+     *
+     * @param values the values (not negative)
+     * @return 1 for the lanes equal to 0, 0 for the others
+     */
+    private static IntVector zero(IntVector values) {
+        return values.sub(1).lanewise(VectorOperators.LSHR, 31);
+    }
+}